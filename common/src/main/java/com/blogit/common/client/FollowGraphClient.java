@@ -0,0 +1,68 @@
+package com.blogit.common.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * Reads the follow graph from user-service's internal snapshot endpoint, one
+ * keyset page at a time, so replicas can start from the full graph instead of
+ * whatever is still retained in the user-events topic.
+ */
+public class FollowGraphClient {
+
+    public static final String TOKEN_HEADER = "X-Internal-Token";
+
+    private static final UUID MIN_ID = new UUID(0, 0);
+
+    private final RestClient restClient;
+    private final int pageSize;
+
+    public FollowGraphClient(RestClient.Builder builder, String userServiceUrl, String token, int pageSize) {
+        this.restClient = builder.baseUrl(userServiceUrl)
+                .defaultHeader(TOKEN_HEADER, token)
+                .build();
+        this.pageSize = pageSize;
+    }
+
+    /** Calls {@code consumer} with (followerId, followingId) for every follow; returns how many there were. */
+    public long forEachFollow(BiConsumer<UUID, UUID> consumer) {
+        UUID afterFollower = MIN_ID;
+        UUID afterFollowing = MIN_ID;
+        long total = 0;
+        while (true) {
+            UUID follower = afterFollower;
+            UUID following = afterFollowing;
+            EdgePage page = restClient.get()
+                    .uri(uri -> uri.path("/internal/follows")
+                            .queryParam("afterFollowerId", follower)
+                            .queryParam("afterFollowingId", following)
+                            .queryParam("limit", pageSize)
+                            .build())
+                    .retrieve()
+                    .body(EdgePage.class);
+            List<Edge> edges = page != null && page.data() != null ? page.data() : List.of();
+            for (Edge edge : edges) {
+                consumer.accept(edge.followerId(), edge.followingId());
+            }
+            total += edges.size();
+            if (edges.size() < pageSize) {
+                return total;
+            }
+            Edge last = edges.get(edges.size() - 1);
+            afterFollower = last.followerId();
+            afterFollowing = last.followingId();
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record Edge(UUID followerId, UUID followingId) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record EdgePage(List<Edge> data) {
+    }
+}
@@ -0,0 +1,117 @@
+package com.blogit.common.client;
+
+import com.blogit.common.event.user.UserFollowedEvent;
+import com.blogit.common.event.user.UserUnfollowedEvent;
+import com.blogit.common.kafka.KafkaConfig;
+import com.blogit.common.kafka.TopicTailer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * Loads an in-memory copy of the follow graph: the whole graph is read from
+ * user-service, then user-events is replayed from shortly before the snapshot
+ * began and followed from there, without a consumer group. Replaying the
+ * overlap is harmless since follows and unfollows apply in order and are
+ * idempotent, and it covers events published before their follow committed.
+ *
+ * The snapshot and its retries run on a background thread, so {@link #start()}
+ * returns immediately; callbacks are invoked from that thread and then from the
+ * tailer's.
+ */
+@Slf4j
+public class FollowGraphLoader implements AutoCloseable {
+
+    private final FollowGraphClient followGraphClient;
+    private final TopicTailer tailer;
+    private final BiConsumer<UUID, UUID> onFollow;
+    private final BiConsumer<UUID, UUID> onUnfollow;
+    private final long replayOverlapMs;
+    private final int snapshotAttempts;
+
+    private boolean closed;
+    private Thread loader;
+
+    public FollowGraphLoader(FollowGraphClient followGraphClient,
+                             ConsumerFactory<?, ?> consumerFactory,
+                             long replayOverlapMs,
+                             int snapshotAttempts,
+                             BiConsumer<UUID, UUID> onFollow,
+                             BiConsumer<UUID, UUID> onUnfollow) {
+        this.followGraphClient = followGraphClient;
+        this.tailer = new TopicTailer(consumerFactory, KafkaConfig.TOPIC_USER_EVENTS, this::handleUserEvent);
+        this.onFollow = onFollow;
+        this.onUnfollow = onUnfollow;
+        this.replayOverlapMs = replayOverlapMs;
+        this.snapshotAttempts = snapshotAttempts;
+    }
+
+    public synchronized void start() {
+        if (closed || loader != null) {
+            return;
+        }
+        loader = new Thread(this::load, "follow-graph-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    private void load() {
+        Instant replayFrom = Instant.now().minusMillis(replayOverlapMs);
+        if (!loadSnapshot()) {
+            // Fall back to whatever the topic still retains
+            replayFrom = Instant.EPOCH;
+        }
+        synchronized (this) {
+            if (!closed) {
+                tailer.start(replayFrom);
+            }
+        }
+    }
+
+    private boolean loadSnapshot() {
+        for (int attempt = 1; attempt <= snapshotAttempts; attempt++) {
+            try {
+                long follows = followGraphClient.forEachFollow(onFollow);
+                log.info("Loaded {} follows from user-service", follows);
+                return true;
+            } catch (RestClientException e) {
+                log.warn("Follow graph snapshot attempt {} of {} failed", attempt, snapshotAttempts, e);
+                try {
+                    Thread.sleep(1000L * attempt);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        log.error("Could not load the follow graph from user-service; replaying user-events from the start");
+        return false;
+    }
+
+    private void handleUserEvent(Object event) {
+        if (event instanceof UserFollowedEvent followed) {
+            var data = followed.getData();
+            onFollow.accept(UUID.fromString(data.getFollowerId()), UUID.fromString(data.getFollowingId()));
+        } else if (event instanceof UserUnfollowedEvent unfollowed) {
+            var data = unfollowed.getData();
+            onUnfollow.accept(UUID.fromString(data.getFollowerId()), UUID.fromString(data.getFollowingId()));
+        }
+    }
+
+    @Override
+    public void close() {
+        Thread current;
+        synchronized (this) {
+            closed = true;
+            current = loader;
+        }
+        if (current != null) {
+            current.interrupt();
+        }
+        tailer.close();
+    }
+}
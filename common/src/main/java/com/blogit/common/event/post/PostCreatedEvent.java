@@ -31,6 +31,7 @@ public class PostCreatedEvent extends BaseEvent<PostCreatedEvent.PostCreatedData
         private String content;
         private List<String> tags;
         private boolean isDraft;
+        private String visibility;
         private LocalDateTime createdAt;
     }
 } 
\ No newline at end of file
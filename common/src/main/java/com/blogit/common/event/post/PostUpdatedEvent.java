@@ -31,6 +31,8 @@ public class PostUpdatedEvent extends BaseEvent<PostUpdatedEvent.PostUpdatedData
         private String content;
         private List<String> tags;
         private boolean isActive;
+        private String visibility;
+        private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
     }
 } 
\ No newline at end of file
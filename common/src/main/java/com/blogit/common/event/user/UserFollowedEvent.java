@@ -0,0 +1,31 @@
+package com.blogit.common.event.user;
+
+import com.blogit.common.event.BaseEvent;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+@Data
+@SuperBuilder
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class UserFollowedEvent extends BaseEvent<UserFollowedEvent.UserFollowedData> {
+    
+    public static final String EVENT_TYPE = "USER_FOLLOWED";
+    
+    public UserFollowedEvent(UserFollowedData data) {
+        super(EVENT_TYPE);
+        this.setData(data);
+    }
+    
+    @Data
+    @NoArgsConstructor
+    public static class UserFollowedData {
+        private String followerId;
+        private String followingId;
+        private LocalDateTime followedAt;
+    }
+} 
@@ -0,0 +1,31 @@
+package com.blogit.common.event.user;
+
+import com.blogit.common.event.BaseEvent;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+@Data
+@SuperBuilder
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class UserUnfollowedEvent extends BaseEvent<UserUnfollowedEvent.UserUnfollowedData> {
+    
+    public static final String EVENT_TYPE = "USER_UNFOLLOWED";
+    
+    public UserUnfollowedEvent(UserUnfollowedData data) {
+        super(EVENT_TYPE);
+        this.setData(data);
+    }
+    
+    @Data
+    @NoArgsConstructor
+    public static class UserUnfollowedData {
+        private String followerId;
+        private String followingId;
+        private LocalDateTime unfollowedAt;
+    }
+} 
@@ -0,0 +1,108 @@
+package com.blogit.common.kafka;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Processes a polled batch of records in parallel while keeping records with
+ * the same key in order. Records are grouped by key and each group runs on its
+ * own virtual thread; the call returns only after every group has finished,
+ * so the container commits the batch's offsets only once all of it is done.
+ *
+ * If any record fails, a {@link BatchListenerFailedException} is thrown for the
+ * earliest failed record in the batch. The error handler then commits
+ * everything before it and redelivers from there, so records after it may be
+ * processed again and handlers must be idempotent.
+ */
+@Slf4j
+public class KeyOrderedBatchProcessor implements AutoCloseable {
+
+    private static final Object NULL_KEY = new Object();
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore inFlight;
+
+    public KeyOrderedBatchProcessor(int maxInFlight) {
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    @FunctionalInterface
+    public interface RecordHandler<K, V> {
+        void handle(ConsumerRecord<K, V> record) throws Exception;
+    }
+
+    public <K, V> void process(List<ConsumerRecord<K, V>> records, RecordHandler<K, V> handler) {
+        Map<Object, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < records.size(); i++) {
+            Object key = records.get(i).key();
+            groups.computeIfAbsent(key != null ? key : NULL_KEY, k -> new ArrayList<>()).add(i);
+        }
+
+        List<Future<Failure>> futures = new ArrayList<>(groups.size());
+        for (List<Integer> group : groups.values()) {
+            futures.add(executor.submit(() -> runGroup(records, group, handler)));
+        }
+
+        Failure earliest = null;
+        for (Future<Failure> future : futures) {
+            Failure failure = await(future);
+            if (failure != null && (earliest == null || failure.index() < earliest.index())) {
+                earliest = failure;
+            }
+        }
+
+        if (earliest != null) {
+            throw new BatchListenerFailedException("Failed to process record", earliest.cause(), earliest.index());
+        }
+    }
+
+    // Runs one key's records in order and stops at the first failure, since later records depend on it
+    private <K, V> Failure runGroup(List<ConsumerRecord<K, V>> records, List<Integer> group, RecordHandler<K, V> handler)
+            throws InterruptedException {
+        inFlight.acquire();
+        try {
+            for (int index : group) {
+                try {
+                    handler.handle(records.get(index));
+                } catch (Exception e) {
+                    log.error("Failed to process record at offset {} of {}-{}",
+                            records.get(index).offset(), records.get(index).topic(), records.get(index).partition(), e);
+                    return new Failure(index, e);
+                }
+            }
+            return null;
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    private Failure await(Future<Failure> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while processing batch", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Batch worker failed", e.getCause());
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private record Failure(int index, Exception cause) {
+    }
+}
@@ -0,0 +1,140 @@
+package com.blogit.common.kafka;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.RecordDeserializationException;
+import org.apache.kafka.common.errors.WakeupException;
+import org.springframework.kafka.core.ConsumerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Follows every partition of a topic without a consumer group. Partitions are
+ * assigned directly and no offsets are committed, so each instance reads the
+ * whole topic and nothing is left behind in the broker when it stops.
+ *
+ * Meant for in-memory replicas that load a snapshot first and then replay the
+ * topic from a point in time before the snapshot was taken, so that no write is
+ * lost between the two; handlers must therefore be idempotent.
+ */
+@Slf4j
+public class TopicTailer implements AutoCloseable {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+
+    private final Map<String, Object> config;
+    private final String topic;
+    private final Consumer<Object> handler;
+
+    private volatile boolean running;
+    private volatile KafkaConsumer<Object, Object> consumer;
+    private Thread thread;
+
+    public TopicTailer(ConsumerFactory<?, ?> consumerFactory, String topic, Consumer<Object> handler) {
+        this(consumerFactory, topic, Map.of(), handler);
+    }
+
+    /** {@code overrides} replace the factory's properties, e.g. to deserialize a different value type. */
+    public TopicTailer(ConsumerFactory<?, ?> consumerFactory, String topic, Map<String, Object> overrides,
+                       Consumer<Object> handler) {
+        this.config = new HashMap<>(consumerFactory.getConfigurationProperties());
+        this.config.putAll(overrides);
+        this.config.remove(ConsumerConfig.GROUP_ID_CONFIG);
+        this.config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        this.topic = topic;
+        this.handler = handler;
+    }
+
+    /**
+     * Starts reading every partition from its first record written at or after
+     * {@code from}; {@link Instant#EPOCH} replays the whole topic.
+     */
+    public synchronized void start(Instant from) {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(() -> run(from), "tail-" + topic);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void run(Instant from) {
+        try (KafkaConsumer<Object, Object> kafkaConsumer = new KafkaConsumer<>(config)) {
+            consumer = kafkaConsumer;
+            seek(kafkaConsumer, from);
+            while (running) {
+                try {
+                    for (ConsumerRecord<Object, Object> record : kafkaConsumer.poll(POLL_TIMEOUT)) {
+                        handle(record);
+                    }
+                } catch (RecordDeserializationException e) {
+                    log.warn("Skipping undeserializable record at offset {} of {}", e.offset(), e.topicPartition(), e);
+                    kafkaConsumer.seek(e.topicPartition(), e.offset() + 1);
+                }
+            }
+        } catch (WakeupException e) {
+            if (running) {
+                throw e;
+            }
+        } catch (RuntimeException e) {
+            log.error("Stopped following topic {}", topic, e);
+        } finally {
+            consumer = null;
+        }
+    }
+
+    private void seek(KafkaConsumer<Object, Object> kafkaConsumer, Instant from) {
+        List<TopicPartition> partitions = kafkaConsumer.partitionsFor(topic).stream()
+                .map(info -> new TopicPartition(topic, info.partition()))
+                .toList();
+        kafkaConsumer.assign(partitions);
+
+        Map<TopicPartition, Long> timestamps = new HashMap<>();
+        partitions.forEach(partition -> timestamps.put(partition, from.toEpochMilli()));
+        Map<TopicPartition, OffsetAndTimestamp> offsets = kafkaConsumer.offsetsForTimes(timestamps);
+        for (TopicPartition partition : partitions) {
+            OffsetAndTimestamp offset = offsets.get(partition);
+            if (offset != null) {
+                kafkaConsumer.seek(partition, offset.offset());
+            } else {
+                // Nothing written since then
+                kafkaConsumer.seekToEnd(List.of(partition));
+            }
+        }
+        log.info("Following {} partitions of {} from {}", partitions.size(), topic, from);
+    }
+
+    private void handle(ConsumerRecord<Object, Object> record) {
+        try {
+            handler.accept(record.value());
+        } catch (RuntimeException e) {
+            log.error("Failed to apply record at offset {} of {}-{}", record.offset(), record.topic(), record.partition(), e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        running = false;
+        KafkaConsumer<Object, Object> current = consumer;
+        if (current != null) {
+            current.wakeup();
+        }
+        if (thread != null) {
+            try {
+                thread.join(POLL_TIMEOUT.toMillis() * 5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.blogit.common.kafka;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+class KeyOrderedBatchProcessorTest {
+
+    private final KeyOrderedBatchProcessor processor = new KeyOrderedBatchProcessor(4);
+
+    @AfterEach
+    void close() {
+        processor.close();
+    }
+
+    @Test
+    void keepsRecordsWithTheSameKeyInOrder() {
+        List<ConsumerRecord<String, Integer>> records = records("a", "b", "a", null, "b", "a", null);
+        Map<String, List<Integer>> seen = new ConcurrentHashMap<>();
+
+        processor.process(records, record -> seen
+                .computeIfAbsent(String.valueOf(record.key()), key -> Collections.synchronizedList(new ArrayList<>()))
+                .add(record.value()));
+
+        assertThat(seen).containsEntry("a", List.of(0, 2, 5))
+                .containsEntry("b", List.of(1, 4))
+                .containsEntry("null", List.of(3, 6));
+    }
+
+    @Test
+    void stopsAKeyAtItsFirstFailureAndFinishesTheOthers() {
+        List<ConsumerRecord<String, Integer>> records = records("a", "b", "a", "b", "a");
+        List<Integer> handled = Collections.synchronizedList(new ArrayList<>());
+
+        BatchListenerFailedException failure = catchThrowableOfType(() -> processor.process(records, record -> {
+            if (record.value() == 2) {
+                throw new IllegalStateException("boom");
+            }
+            handled.add(record.value());
+        }), BatchListenerFailedException.class);
+
+        assertThat(failure.getIndex()).isEqualTo(2);
+        assertThat(failure.getCause()).hasMessage("boom");
+        assertThat(handled).containsExactlyInAnyOrder(0, 1, 3);
+    }
+
+    @Test
+    void reportsTheEarliestFailureInTheBatch() {
+        List<ConsumerRecord<String, Integer>> records = records("a", "b", "c", "a", "b");
+
+        BatchListenerFailedException failure = catchThrowableOfType(() -> processor.process(records, record -> {
+            if (record.value() == 1 || record.value() == 3) {
+                throw new IllegalStateException("failed " + record.value());
+            }
+        }), BatchListenerFailedException.class);
+
+        assertThat(failure.getIndex()).isEqualTo(1);
+        assertThat(failure.getCause()).hasMessage("failed 1");
+    }
+
+    // Record i carries value i at offset i
+    private static List<ConsumerRecord<String, Integer>> records(String... keys) {
+        List<ConsumerRecord<String, Integer>> records = new ArrayList<>();
+        for (int i = 0; i < keys.length; i++) {
+            records.add(new ConsumerRecord<>("topic", 0, i, keys[i], i));
+        }
+        return records;
+    }
+}
@@ -0,0 +1,30 @@
+package com.blogit.interaction.actuator;
+
+import com.blogit.interaction.service.PostLikeCounterService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Component
+@Endpoint(id = "likecounts")
+@RequiredArgsConstructor
+public class LikeCountsEndpoint {
+
+    private final PostLikeCounterService postLikeCounterService;
+
+    @ReadOperation
+    public Map<String, Object> likeCount(@Selector String postId) {
+        return Map.of("postId", postId, "likeCount", postLikeCounterService.getCount(UUID.fromString(postId)));
+    }
+
+    @WriteOperation
+    public Map<String, Object> reconcile(@Selector String postId) {
+        return Map.of("postId", postId, "likeCount", postLikeCounterService.reconcile(UUID.fromString(postId)));
+    }
+}
@@ -0,0 +1,23 @@
+package com.blogit.interaction.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.config.TopicConfig;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+@Configuration
+public class CacheInvalidationKafkaConfig {
+
+    public static final String TOPIC_CACHE_INVALIDATIONS = "interaction-cache-invalidations";
+
+    // Only read from the moment an instance starts, so an hour of history is plenty
+    @Bean
+    public NewTopic cacheInvalidationsTopic() {
+        return TopicBuilder.name(TOPIC_CACHE_INVALIDATIONS)
+                .partitions(1)
+                .replicas(1)
+                .config(TopicConfig.RETENTION_MS_CONFIG, "3600000")
+                .build();
+    }
+}
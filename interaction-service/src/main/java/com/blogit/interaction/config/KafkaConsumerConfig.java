@@ -7,6 +7,7 @@ import com.blogit.common.event.DomainEvent;
 import com.blogit.common.event.post.PostCreatedEvent;
 import com.blogit.common.event.post.PostDeletedEvent;
 import com.blogit.common.event.post.PostUpdatedEvent;
+import com.blogit.common.kafka.KeyOrderedBatchProcessor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -33,6 +34,9 @@ public class KafkaConsumerConfig {
     @Value("${spring.application.name}")
     private String applicationName;
 
+    @Value("${app.kafka.max-in-flight:64}")
+    private int maxInFlight;
+
     @Bean
     public ConsumerFactory<String, DomainEvent<?>> consumerFactory() {
         Map<String, Object> props = new HashMap<>();
@@ -58,7 +62,11 @@ public class KafkaConsumerConfig {
         props.put(JsonDeserializer.TYPE_MAPPINGS,
                 "PostCreatedEvent:com.blogit.common.event.post.PostCreatedEvent," +
                         "PostUpdatedEvent:com.blogit.common.event.post.PostUpdatedEvent," +
-                        "PostDeletedEvent:com.blogit.common.event.post.PostDeletedEvent");
+                        "PostDeletedEvent:com.blogit.common.event.post.PostDeletedEvent," +
+                        "UserRegisteredEvent:com.blogit.common.event.user.UserRegisteredEvent," +
+                        "UserUpdatedEvent:com.blogit.common.event.user.UserUpdatedEvent," +
+                        "UserFollowedEvent:com.blogit.common.event.user.UserFollowedEvent," +
+                        "UserUnfollowedEvent:com.blogit.common.event.user.UserUnfollowedEvent");
 
         return new DefaultKafkaConsumerFactory<>(props);
     }
@@ -70,4 +78,18 @@ public class KafkaConsumerConfig {
         factory.setConsumerFactory(consumerFactory());
         return factory;
     }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, DomainEvent<?>> batchKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, DomainEvent<?>> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setBatchListener(true);
+        return factory;
+    }
+
+    @Bean(destroyMethod = "close")
+    public KeyOrderedBatchProcessor keyOrderedBatchProcessor() {
+        return new KeyOrderedBatchProcessor(maxInFlight);
+    }
 }
@@ -0,0 +1,73 @@
+package com.blogit.interaction.config;
+
+import com.blogit.interaction.event.LikeCommand;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+public class LikeCommandKafkaConfig {
+
+    public static final String TOPIC_LIKE_COMMANDS = "like-commands";
+
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapServers;
+
+    @Value("${spring.application.name}")
+    private String applicationName;
+
+    @Value("${app.likes.write-behind.partitions:6}")
+    private int partitions;
+
+    @Value("${app.likes.write-behind.concurrency:3}")
+    private int concurrency;
+
+    @Value("${app.likes.write-behind.max-batch:500}")
+    private int maxBatch;
+
+    @Bean
+    public NewTopic likeCommandsTopic() {
+        return new NewTopic(TOPIC_LIKE_COMMANDS, partitions, (short) 1);
+    }
+
+    @Bean
+    public ConsumerFactory<String, LikeCommand> likeCommandConsumerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, applicationName + "-like-commands");
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxBatch);
+
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        props.put(ErrorHandlingDeserializer.KEY_DESERIALIZER_CLASS, StringDeserializer.class);
+        props.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
+
+        props.put(JsonDeserializer.TRUSTED_PACKAGES, "com.blogit.interaction.event");
+        props.put(JsonDeserializer.VALUE_DEFAULT_TYPE, LikeCommand.class.getName());
+        props.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
+
+        return new DefaultKafkaConsumerFactory<>(props);
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, LikeCommand> likeCommandBatchListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, LikeCommand> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(likeCommandConsumerFactory());
+        factory.setBatchListener(true);
+        factory.setConcurrency(concurrency);
+        return factory;
+    }
+}
@@ -0,0 +1,43 @@
+package com.blogit.interaction.controller;
+
+import com.blogit.interaction.dto.ApiResponse;
+import com.blogit.interaction.service.ActivityService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/interactions")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "User Activity", description = "Merged timeline of a user's interactions")
+public class ActivityController {
+
+    private final ActivityService activityService;
+
+    @GetMapping("/users/{userId}/activity")
+    @Operation(summary = "Get user activity", description = "Likes, comments and comment likes of a user, newest first, resuming after a cursor")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getUserActivity(
+            @Parameter(description = "ID of the user") @PathVariable UUID userId,
+            @Parameter(description = "Cursor returned by the previous call") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of entries") @RequestParam(defaultValue = "20") int limit) {
+        
+        log.info("GET /api/v1/interactions/users/{}/activity - Cursor: {}, Limit: {}", userId, cursor, limit);
+        
+        ActivityService.ActivityPage page = activityService.getUserActivity(userId, cursor, Math.min(limit, 100));
+        
+        Map<String, Object> data = new HashMap<>();
+        data.put("activities", page.activities());
+        data.put("nextCursor", page.nextCursor());
+        
+        return ResponseEntity.ok(ApiResponse.success(data, "User activity retrieved successfully"));
+    }
+}
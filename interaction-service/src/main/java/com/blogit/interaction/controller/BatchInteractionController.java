@@ -0,0 +1,42 @@
+package com.blogit.interaction.controller;
+
+import com.blogit.interaction.dto.ApiResponse;
+import com.blogit.interaction.dto.BatchInteractionRequest;
+import com.blogit.interaction.dto.InteractionCommandResultDto;
+import com.blogit.interaction.service.BatchInteractionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/interactions")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Batch Interactions", description = "Replay of interactions queued by offline clients")
+public class BatchInteractionController {
+
+    private final BatchInteractionService batchInteractionService;
+
+    @PostMapping("/batch")
+    @Operation(summary = "Apply interactions in batch",
+            description = "Apply an ordered list of likes, unlikes and comments in one request, with a result per command")
+    public ResponseEntity<ApiResponse<List<InteractionCommandResultDto>>> applyBatch(
+            @Parameter(description = "ID of the user") @RequestHeader("X-User-ID") UUID userId,
+            @Valid @RequestBody BatchInteractionRequest request) {
+        
+        log.info("POST /api/v1/interactions/batch - User: {}, Commands: {}", userId, request.getCommands().size());
+        
+        List<InteractionCommandResultDto> results = batchInteractionService.apply(userId, request.getCommands());
+        ApiResponse<List<InteractionCommandResultDto>> response = ApiResponse.success(results, "Batch processed");
+        
+        return ResponseEntity.ok(response);
+    }
+}
@@ -16,6 +16,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -65,7 +66,7 @@ public class CommentController {
         String property = sort.split(",")[0];
         PageRequest pageRequest = PageRequest.of(page, size, Sort.by(direction, property));
         
-        Page<CommentDto> comments = commentService.getCommentsForPost(postId, pageRequest, includeReplies);
+        Page<CommentDto> comments = commentService.getCommentsForPost(postId, pageRequest, includeReplies, maxDepth);
         
         Map<String, Object> data = new HashMap<>();
         data.put("comments", comments.getContent());
@@ -79,6 +80,30 @@ public class CommentController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/comments/{commentId}/replies")
+    @Operation(summary = "Get comment replies", description = "Retrieve replies below a comment in thread order, resuming after a cursor")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getCommentReplies(
+            @Parameter(description = "ID of the parent comment") @PathVariable UUID commentId,
+            @Parameter(description = "Cursor returned by the previous call") @RequestParam(required = false) String after,
+            @Parameter(description = "Maximum number of replies") @RequestParam(defaultValue = "20") int limit) {
+        
+        log.info("GET /api/v1/interactions/comments/{}/replies - After: {}, Limit: {}", commentId, after, limit);
+        
+        try {
+            List<CommentDto> replies = commentService.getReplies(commentId, after, limit);
+            
+            Map<String, Object> data = new HashMap<>();
+            data.put("replies", replies);
+            data.put("nextCursor", replies.size() == limit ? replies.get(replies.size() - 1).getPath() : null);
+            
+            return ResponseEntity.ok(ApiResponse.success(data, "Replies retrieved successfully"));
+        } catch (IllegalArgumentException e) {
+            log.warn("Failed to get replies for comment {}: {}", commentId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
     @PutMapping("/comments/{commentId}")
     @Operation(summary = "Update comment", description = "Update a specific comment (only by comment author)")
     public ResponseEntity<ApiResponse<CommentDto>> updateComment(
@@ -164,6 +189,28 @@ public class CommentController {
         }
     }
 
+    @PostMapping("/comments/likes/bulk-check")
+    @Operation(summary = "Bulk comment like status check", description = "Check like status for multiple comments at once")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> bulkCheckCommentLikeStatus(
+            @Parameter(description = "ID of the user") @RequestHeader("X-User-ID") UUID userId,
+            @Valid @RequestBody BulkCommentLikeCheckRequest request) {
+        
+        log.info("POST /api/v1/interactions/comments/likes/bulk-check - User: {}, Comments: {}", 
+                userId, request.getCommentIds().size());
+        
+        Map<UUID, LikeStatusDto> likeStatuses = commentService.bulkCheckUserCommentLikeStatus(request.getCommentIds(), userId);
+        
+        Map<String, Object> data = new HashMap<>();
+        data.put("likeStatuses", likeStatuses);
+        
+        ApiResponse<Map<String, Object>> response = ApiResponse.success(
+                data, 
+                "Bulk comment like status check completed successfully"
+        );
+        
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/users/{userId}/comments")
     @Operation(summary = "Get user comments", description = "Retrieve comments made by a specific user")
     public ResponseEntity<ApiResponse<Map<String, Object>>> getUserComments(
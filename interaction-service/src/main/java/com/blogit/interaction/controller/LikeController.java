@@ -67,6 +67,21 @@ public class LikeController {
         }
     }
 
+    @PutMapping("/posts/{postId}/likes")
+    @Operation(summary = "Set like state", description = "Idempotently like or unlike a specific post")
+    public ResponseEntity<ApiResponse<LikeStatusDto>> setLikeState(
+            @Parameter(description = "ID of the post") @PathVariable UUID postId,
+            @Parameter(description = "ID of the user") @RequestHeader("X-User-ID") UUID userId,
+            @Valid @RequestBody SetLikeStateRequest request) {
+        
+        log.info("PUT /api/v1/interactions/posts/{}/likes - User: {}, Liked: {}", postId, userId, request.getLiked());
+        
+        LikeStatusDto likeStatus = likeService.setLikeState(postId, userId, request.getLiked());
+        ApiResponse<LikeStatusDto> response = ApiResponse.success(likeStatus, "Like state updated successfully");
+        
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/posts/{postId}/likes")
     @Operation(summary = "Get post likes", description = "Retrieve all likes for a specific post with pagination")
     public ResponseEntity<ApiResponse<Map<String, Object>>> getPostLikes(
@@ -120,7 +135,8 @@ public class LikeController {
         log.info("POST /api/v1/interactions/posts/likes/bulk-check - User: {}, Posts: {}", 
                 userId, request.getPostIds().size());
         
-        Map<UUID, LikeStatusDto> likeStatuses = likeService.bulkCheckUserLikeStatus(request.getPostIds(), userId);
+        Map<UUID, LikeStatusDto> likeStatuses = likeService.bulkCheckUserLikeStatus(
+                request.getPostIds(), userId, request.isIncludeReactions());
         
         Map<String, Object> data = new HashMap<>();
         data.put("likeStatuses", likeStatuses);
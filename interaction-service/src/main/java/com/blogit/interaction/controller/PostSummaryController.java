@@ -0,0 +1,62 @@
+package com.blogit.interaction.controller;
+
+import com.blogit.interaction.dto.ApiResponse;
+import com.blogit.interaction.dto.PostInteractionSummaryDto;
+import com.blogit.interaction.dto.PostSummaryRequest;
+import com.blogit.interaction.dto.SocialProofDto;
+import com.blogit.interaction.service.PostSummaryService;
+import com.blogit.interaction.service.SocialProofService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/interactions")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Post Summaries", description = "Batched interaction data for rendering feeds")
+public class PostSummaryController {
+
+    private final PostSummaryService postSummaryService;
+    private final SocialProofService socialProofService;
+
+    @PostMapping("/posts/summary")
+    @Operation(summary = "Summarize post interactions",
+            description = "Like count, comment count, top comment preview and like status for multiple posts at once")
+    public ResponseEntity<ApiResponse<List<PostInteractionSummaryDto>>> summarizePosts(
+            @Parameter(description = "ID of the user") @RequestHeader(value = "X-User-ID", required = false) UUID userId,
+            @Valid @RequestBody PostSummaryRequest request) {
+        
+        log.info("POST /api/v1/interactions/posts/summary - User: {}, Posts: {}", 
+                userId, request.getPostIds().size());
+        
+        List<PostInteractionSummaryDto> summaries = postSummaryService.summarize(request.getPostIds(), userId);
+        ApiResponse<List<PostInteractionSummaryDto>> response = ApiResponse.success(summaries);
+        
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/posts/social-proof")
+    @Operation(summary = "Liked by people you follow",
+            description = "How many of the user's followees liked each post, with a few of their names")
+    public ResponseEntity<ApiResponse<List<SocialProofDto>>> getSocialProof(
+            @Parameter(description = "ID of the user") @RequestHeader("X-User-ID") UUID userId,
+            @Valid @RequestBody PostSummaryRequest request) {
+        
+        log.info("POST /api/v1/interactions/posts/social-proof - User: {}, Posts: {}", 
+                userId, request.getPostIds().size());
+        
+        List<SocialProofDto> socialProof = socialProofService.getSocialProof(request.getPostIds(), userId);
+        ApiResponse<List<SocialProofDto>> response = ApiResponse.success(socialProof);
+        
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,61 @@
+package com.blogit.interaction.controller;
+
+import com.blogit.interaction.dto.ApiResponse;
+import com.blogit.interaction.dto.SetReactionRequest;
+import com.blogit.interaction.service.ReactionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/interactions")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Post Reactions", description = "Operations for managing post reactions")
+public class ReactionController {
+
+    private final ReactionService reactionService;
+
+    @PutMapping("/posts/{postId}/reactions")
+    @Operation(summary = "Set reaction", description = "Add or switch the user's reaction to a specific post")
+    public ResponseEntity<ApiResponse<Void>> setReaction(
+            @Parameter(description = "ID of the post") @PathVariable UUID postId,
+            @Parameter(description = "ID of the user") @RequestHeader("X-User-ID") UUID userId,
+            @Valid @RequestBody SetReactionRequest request) {
+        
+        log.info("PUT /api/v1/interactions/posts/{}/reactions - User: {}, Reaction: {}", postId, userId, request.getReaction());
+        
+        reactionService.setReaction(postId, userId, request.getReaction());
+        return ResponseEntity.ok(ApiResponse.success(null, "Reaction updated successfully"));
+    }
+
+    @DeleteMapping("/posts/{postId}/reactions")
+    @Operation(summary = "Remove reaction", description = "Remove the user's reaction from a specific post")
+    public ResponseEntity<ApiResponse<Void>> removeReaction(
+            @Parameter(description = "ID of the post") @PathVariable UUID postId,
+            @Parameter(description = "ID of the user") @RequestHeader("X-User-ID") UUID userId) {
+        
+        log.info("DELETE /api/v1/interactions/posts/{}/reactions - User: {}", postId, userId);
+        
+        reactionService.removeReaction(postId, userId);
+        return ResponseEntity.ok(ApiResponse.success(null, "Reaction removed successfully"));
+    }
+
+    @GetMapping("/posts/{postId}/reactions")
+    @Operation(summary = "Get reaction counts", description = "Number of reactions of each kind on a specific post")
+    public ResponseEntity<ApiResponse<Map<String, Long>>> getReactionCounts(
+            @Parameter(description = "ID of the post") @PathVariable UUID postId) {
+        
+        log.info("GET /api/v1/interactions/posts/{}/reactions", postId);
+        
+        return ResponseEntity.ok(ApiResponse.success(reactionService.getReactionCounts(postId)));
+    }
+}
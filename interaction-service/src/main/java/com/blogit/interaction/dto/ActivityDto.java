@@ -0,0 +1,28 @@
+package com.blogit.interaction.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityDto {
+    
+    // POST_LIKE, COMMENT or COMMENT_LIKE
+    private String type;
+    private UUID id;
+    private UUID postId;
+    // The comment written or liked; null for post likes
+    private UUID commentId;
+    private String contentPreview;
+    
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'")
+    private LocalDateTime createdAt;
+}
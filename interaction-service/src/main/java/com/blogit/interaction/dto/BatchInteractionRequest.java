@@ -0,0 +1,22 @@
+package com.blogit.interaction.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchInteractionRequest {
+    
+    @NotEmpty(message = "Commands list cannot be empty")
+    @Size(max = 200, message = "Maximum 200 commands allowed per request")
+    private List<@Valid InteractionCommandDto> commands;
+}
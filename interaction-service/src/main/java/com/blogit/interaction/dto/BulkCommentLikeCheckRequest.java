@@ -0,0 +1,22 @@
+package com.blogit.interaction.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCommentLikeCheckRequest {
+    
+    @NotEmpty(message = "Comment IDs list cannot be empty")
+    @Size(max = 300, message = "Maximum 300 comment IDs allowed per request")
+    private List<UUID> commentIds;
+}
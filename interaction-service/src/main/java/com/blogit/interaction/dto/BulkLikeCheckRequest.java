@@ -19,4 +19,7 @@ public class BulkLikeCheckRequest {
     @NotEmpty(message = "Post IDs list cannot be empty")
     @Size(max = 50, message = "Maximum 50 post IDs allowed per request")
     private List<UUID> postIds;
+    
+    // Reactions live in their own table, so they cost an extra query and are only looked up on request
+    private boolean includeReactions;
 }
@@ -12,7 +12,7 @@ import java.util.List;
 import java.util.UUID;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class CommentDto {
@@ -20,6 +20,8 @@ public class CommentDto {
     private UUID id;
     private UUID postId;
     private UUID parentCommentId;
+    private Integer depth;
+    private String path;
     private String content;
     private Long likeCount;
     private Long replyCount;
@@ -0,0 +1,37 @@
+package com.blogit.interaction.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InteractionCommandDto {
+    
+    public enum Type {
+        LIKE, UNLIKE, COMMENT
+    }
+    
+    @NotNull(message = "Command type is required")
+    private Type type;
+    
+    @NotNull(message = "Post ID is required")
+    private UUID postId;
+    
+    // COMMENT only
+    @Size(max = 500, message = "Content must be at most 500 characters")
+    private String content;
+    
+    private UUID parentCommentId;
+    
+    // Opaque client reference echoed back in the result
+    @Size(max = 100, message = "Client reference must be at most 100 characters")
+    private String clientRef;
+}
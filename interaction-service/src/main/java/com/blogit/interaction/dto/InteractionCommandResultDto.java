@@ -0,0 +1,32 @@
+package com.blogit.interaction.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InteractionCommandResultDto {
+    
+    public enum Status {
+        // The command changed state
+        APPLIED,
+        // The state already matched, e.g. liking an already liked post
+        UNCHANGED,
+        // A later like/unlike of the same post in the batch replaced this one
+        SUPERSEDED,
+        REJECTED
+    }
+    
+    private int index;
+    private String clientRef;
+    private Status status;
+    // ID of the created comment
+    private UUID resultId;
+    private String message;
+}
@@ -18,4 +18,7 @@ public class LikeStatusDto {
     
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'")
     private LocalDateTime likedAt;
+    
+    // The caller's reaction, only filled in by a bulk check that asks for reactions
+    private String reaction;
 }
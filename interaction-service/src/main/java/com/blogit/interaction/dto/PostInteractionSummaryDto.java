@@ -0,0 +1,22 @@
+package com.blogit.interaction.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostInteractionSummaryDto {
+    
+    private UUID postId;
+    private Long likeCount;
+    private Long commentCount;
+    private CommentDto topComment;
+    // Null when the request carried no user
+    private Boolean isLiked;
+}
@@ -0,0 +1,17 @@
+package com.blogit.interaction.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SetLikeStateRequest {
+    
+    @NotNull(message = "Desired like state is required")
+    private Boolean liked;
+}
@@ -0,0 +1,18 @@
+package com.blogit.interaction.dto;
+
+import com.blogit.interaction.entity.Reaction;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SetReactionRequest {
+    
+    @NotNull(message = "Reaction is required")
+    private Reaction.Type reaction;
+}
@@ -0,0 +1,22 @@
+package com.blogit.interaction.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SocialProofDto {
+    
+    private UUID postId;
+    // How many of the caller's followees liked the post
+    private Integer followeeLikeCount;
+    // Up to a few of those followees, for "liked by alice, bob and 12 others"
+    private List<UserAuthorDto> followeeLikers;
+}
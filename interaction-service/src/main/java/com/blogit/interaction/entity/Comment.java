@@ -15,9 +15,13 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+    @Index(name = "idx_comments_root_path", columnList = "root_comment_id, path"),
+    @Index(name = "idx_comments_user_created", columnList = "user_id, created_at DESC, id DESC")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -39,6 +43,19 @@ public class Comment {
     @Column(name = "parent_comment_id", columnDefinition = "UUID")
     private UUID parentCommentId;
 
+    // Top-level comment of the thread; null for top-level comments themselves
+    @Column(name = "root_comment_id", columnDefinition = "UUID")
+    private UUID rootCommentId;
+
+    // Materialized path of per-comment segments from the root, so ordering by path walks the thread depth-first.
+    // Byte-wise collation keeps '.' ordered before the hex digits regardless of the database locale.
+    @Column(name = "path", nullable = false, columnDefinition = "VARCHAR(1024) COLLATE \"C\"")
+    private String path;
+
+    @Column(name = "depth", nullable = false)
+    @Builder.Default
+    private Integer depth = 0;
+
     @NotBlank(message = "Content is required")
     @Size(min = 1, max = 500, message = "Content must be between 1 and 500 characters")
     @Column(nullable = false, columnDefinition = "TEXT")
@@ -99,6 +116,21 @@ public class Comment {
         return parentCommentId != null;
     }
 
+    public UUID getThreadRootId() {
+        return rootCommentId != null ? rootCommentId : id;
+    }
+
+    private static final int PATH_SEGMENT_LENGTH = 20;
+    private static final int MAX_PATH_LENGTH = 1024;
+
+    // Deepest reply whose path still fits the path column: each level adds a '.' and a segment
+    public static final int MAX_DEPTH = (MAX_PATH_LENGTH - PATH_SEGMENT_LENGTH) / (PATH_SEGMENT_LENGTH + 1);
+
+    // Hex millis followed by a random suffix, so siblings sort oldest first and practically never collide
+    public static String newPathSegment() {
+        return String.format("%012x%08x", System.currentTimeMillis(), ThreadLocalRandom.current().nextInt());
+    }
+
     public Comment(UUID postId, UUID userId, String content, UUID parentCommentId) {
         this.postId = postId;
         this.userId = userId;
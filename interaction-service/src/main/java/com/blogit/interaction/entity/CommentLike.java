@@ -14,6 +14,8 @@ import java.util.UUID;
 @Entity
 @Table(name = "comment_likes", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"comment_id", "user_id"})
+}, indexes = {
+    @Index(name = "idx_comment_likes_user_created", columnList = "user_id, created_at DESC, id DESC")
 })
 @Data
 @Builder
@@ -14,6 +14,8 @@ import java.util.UUID;
 @Entity
 @Table(name = "likes", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"post_id", "user_id"})
+}, indexes = {
+    @Index(name = "idx_likes_user_created", columnList = "user_id, created_at DESC, id DESC")
 })
 @Data
 @Builder
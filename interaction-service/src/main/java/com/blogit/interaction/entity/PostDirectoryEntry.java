@@ -0,0 +1,41 @@
+package com.blogit.interaction.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Local copy of the post attributes interaction-service needs on its write
+ * paths, maintained from post-events.
+ */
+@Entity
+@Table(name = "post_directory")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostDirectoryEntry {
+
+    @Id
+    @Column(name = "post_id", columnDefinition = "UUID")
+    private UUID postId;
+
+    @Column(name = "owner_id", nullable = false, columnDefinition = "UUID")
+    private UUID ownerId;
+
+    @Column(name = "is_active", nullable = false)
+    private Boolean isActive;
+
+    @Column(length = 20)
+    private String visibility;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,44 @@
+package com.blogit.interaction.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * One of several counter rows for a post. Writers add to a random slot so
+ * concurrent flushes rarely contend for the same row lock; the like count is
+ * the sum over all slots.
+ */
+@Entity
+@Table(name = "post_like_counts")
+@IdClass(PostLikeCount.PostLikeCountId.class)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostLikeCount {
+
+    @Id
+    @Column(name = "post_id", nullable = false, columnDefinition = "UUID")
+    private UUID postId;
+
+    @Id
+    @Column(name = "slot", nullable = false)
+    private Integer slot;
+
+    @Column(name = "like_count", nullable = false)
+    private Long likeCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PostLikeCountId implements Serializable {
+        private UUID postId;
+        private Integer slot;
+    }
+}
@@ -0,0 +1,66 @@
+package com.blogit.interaction.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Progress of purging the likes and comment likes of a deleted post. The
+ * cursor columns hold the last key deleted in the current phase, so a purge
+ * resumes where it stopped after a restart.
+ */
+@Entity
+@Table(name = "post_purge_queue")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostPurge {
+
+    @Id
+    @Column(name = "post_id", columnDefinition = "UUID")
+    private UUID postId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private Phase phase = Phase.LIKES;
+
+    @Column(name = "cursor_comment_like_id", columnDefinition = "UUID")
+    private UUID cursorCommentLikeId;
+
+    @Column(name = "cursor_user_id", columnDefinition = "UUID")
+    private UUID cursorUserId;
+
+    @Column(name = "deleted_likes", nullable = false)
+    @Builder.Default
+    private Long deletedLikes = 0L;
+
+    @Column(name = "deleted_reactions", nullable = false)
+    @Builder.Default
+    private Long deletedReactions = 0L;
+
+    @Column(name = "deleted_comment_likes", nullable = false)
+    @Builder.Default
+    private Long deletedCommentLikes = 0L;
+
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    public enum Phase {
+        LIKES, REACTIONS, COMMENT_LIKES, DONE
+    }
+}
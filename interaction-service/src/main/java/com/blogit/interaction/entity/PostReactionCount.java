@@ -0,0 +1,47 @@
+package com.blogit.interaction.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * One of several reaction counter rows for a post, slotted like
+ * {@link PostLikeCount}. {@code counts[i]} is the number of reactions with
+ * code {@code i}; a post's totals are the element-wise sum over its slots.
+ */
+@Entity
+@Table(name = "post_reaction_counts")
+@IdClass(PostReactionCount.PostReactionCountId.class)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostReactionCount {
+
+    @Id
+    @Column(name = "post_id", nullable = false, columnDefinition = "UUID")
+    private UUID postId;
+
+    @Id
+    @Column(name = "slot", nullable = false)
+    private Integer slot;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "counts", nullable = false, columnDefinition = "BIGINT[]")
+    private long[] counts;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PostReactionCountId implements Serializable {
+        private UUID postId;
+        private Integer slot;
+    }
+}
@@ -0,0 +1,77 @@
+package com.blogit.interaction.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A user's reaction to a post. Each user has at most one reaction per post,
+ * stored as a small code; switching reactions rewrites the code in place.
+ */
+@Entity
+@Table(name = "post_reactions", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"post_id", "user_id"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Reaction {
+
+    @Id
+    @GeneratedValue(generator = "UUID")
+    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    @Column(columnDefinition = "UUID")
+    private UUID id;
+
+    @Column(name = "post_id", nullable = false, columnDefinition = "UUID")
+    private UUID postId;
+
+    @Column(name = "user_id", nullable = false, columnDefinition = "UUID")
+    private UUID userId;
+
+    @Column(name = "reaction_code", nullable = false)
+    private Short reactionCode;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /**
+     * Reaction kinds. The code doubles as the index into the per-post counter
+     * vector, so codes must stay dense and existing ones must never change;
+     * add new kinds at the end.
+     */
+    public enum Type {
+        LOVE, LAUGH, INSIGHTFUL, WOW, SAD, ANGRY;
+
+        private static final Type[] BY_CODE = values();
+
+        public short code() {
+            return (short) ordinal();
+        }
+
+        public static Type fromCode(short code) {
+            if (code < 0 || code >= BY_CODE.length) {
+                throw new IllegalArgumentException("Unknown reaction code: " + code);
+            }
+            return BY_CODE[code];
+        }
+
+        public static int count() {
+            return BY_CODE.length;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.blogit.interaction.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Local copy of the public user profile fields, maintained from user-events.
+ */
+@Entity
+@Table(name = "user_directory")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDirectoryEntry {
+
+    @Id
+    @Column(name = "user_id", columnDefinition = "UUID")
+    private UUID userId;
+
+    @Column(nullable = false, length = 50)
+    private String username;
+
+    @Column(name = "full_name", length = 100)
+    private String fullName;
+
+    @Column(name = "profile_image")
+    private String profileImage;
+
+    @Column(name = "is_active", nullable = false)
+    private Boolean isActive;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,24 @@
+package com.blogit.interaction.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keys of one in-memory cache made stale by writes on the {@code origin}
+ * instance, broadcast so the other instances drop their copies.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheInvalidationEvent {
+    
+    private String origin;
+    private String cache;
+    private List<UUID> keys;
+}
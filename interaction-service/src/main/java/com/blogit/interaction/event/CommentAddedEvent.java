@@ -0,0 +1,13 @@
+package com.blogit.interaction.event;
+
+import com.blogit.interaction.dto.CommentDto;
+
+import java.util.UUID;
+
+/**
+ * In-process notification that a comment was created, handled by listeners
+ * after the writing transaction commits. {@code comment} is a snapshot of the
+ * new comment as it was saved.
+ */
+public record CommentAddedEvent(UUID postId, UUID commentId, UUID userId, CommentDto comment) {
+}
@@ -0,0 +1,10 @@
+package com.blogit.interaction.event;
+
+import java.util.UUID;
+
+/**
+ * In-process notification that a comment like was added or removed, handled
+ * by listeners after the writing transaction commits.
+ */
+public record CommentLikeChangedEvent(UUID postId, UUID commentId, UUID userId, boolean liked) {
+}
@@ -0,0 +1,11 @@
+package com.blogit.interaction.event;
+
+import java.util.UUID;
+
+/**
+ * In-process notification that existing comments on a post were edited or
+ * removed, handled by listeners after the writing transaction commits. New
+ * comments are announced with {@link CommentAddedEvent} instead.
+ */
+public record CommentThreadChangedEvent(UUID postId, UUID commentId) {
+}
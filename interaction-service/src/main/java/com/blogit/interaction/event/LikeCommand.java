@@ -0,0 +1,27 @@
+package com.blogit.interaction.event;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Desired like state for a (post, user) pair, queued when likes are written behind.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LikeCommand {
+    
+    private UUID postId;
+    private UUID userId;
+    private boolean liked;
+    
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS")
+    private LocalDateTime requestedAt;
+}
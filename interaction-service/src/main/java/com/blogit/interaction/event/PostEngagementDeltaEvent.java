@@ -0,0 +1,62 @@
+package com.blogit.interaction.event;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Net engagement on one post over one aggregation window, published instead of
+ * a message per like.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostEngagementDeltaEvent {
+    
+    private UUID eventId;
+    private String eventType;
+    
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'")
+    private LocalDateTime timestamp;
+    
+    private String version;
+    private PostEngagementDeltaData data;
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PostEngagementDeltaData {
+        private UUID postId;
+        private UUID postOwnerId;
+        private long likesAdded;
+        private long likesRemoved;
+        private long commentsAdded;
+        // A few of the users behind the window's likes and comments, newest last
+        private List<UUID> sampleLikers;
+        private List<UUID> sampleCommenters;
+        
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'")
+        private LocalDateTime windowStart;
+        
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'")
+        private LocalDateTime windowEnd;
+    }
+    
+    public static PostEngagementDeltaEvent create(PostEngagementDeltaData data) {
+        return PostEngagementDeltaEvent.builder()
+                .eventId(UUID.randomUUID())
+                .eventType("POST_ENGAGEMENT_DELTA")
+                .timestamp(LocalDateTime.now())
+                .version("1.0")
+                .data(data)
+                .build();
+    }
+}
@@ -0,0 +1,11 @@
+package com.blogit.interaction.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * In-process notification that a like was added or removed, published inside
+ * the writing transaction and handled by listeners after it commits.
+ */
+public record PostLikeChangedEvent(UUID postId, UUID userId, boolean liked, UUID likeId, LocalDateTime createdAt) {
+}
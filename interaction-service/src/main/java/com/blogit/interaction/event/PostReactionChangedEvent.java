@@ -0,0 +1,10 @@
+package com.blogit.interaction.event;
+
+import java.util.UUID;
+
+/**
+ * In-process notification that a user's reaction to a post changed. Either
+ * code is {@code null} when there was no reaction before or is none after.
+ */
+public record PostReactionChangedEvent(UUID postId, UUID userId, Short previousCode, Short currentCode) {
+}
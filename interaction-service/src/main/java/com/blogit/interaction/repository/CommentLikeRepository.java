@@ -27,8 +27,14 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, UUID>
     // Count likes for a comment
     long countByCommentId(UUID commentId);
     
-    // Delete comment like by comment and user
-    void deleteByCommentIdAndUserId(UUID commentId, UUID userId);
+    // Insert a comment like in one statement; empty if the user already liked the comment
+    @Query(value = "INSERT INTO comment_likes (id, comment_id, user_id, created_at) VALUES (gen_random_uuid(), :commentId, :userId, now()) " +
+                   "ON CONFLICT (comment_id, user_id) DO NOTHING RETURNING *", nativeQuery = true)
+    Optional<CommentLike> insertIfAbsent(@Param("commentId") UUID commentId, @Param("userId") UUID userId);
+    
+    // Delete a comment like in one statement; empty if there was nothing to delete
+    @Query(value = "DELETE FROM comment_likes WHERE comment_id = :commentId AND user_id = :userId RETURNING *", nativeQuery = true)
+    Optional<CommentLike> deleteReturning(@Param("commentId") UUID commentId, @Param("userId") UUID userId);
     
     // Get user's liked comments
     @Query("SELECT cl FROM CommentLike cl WHERE cl.userId = :userId ORDER BY cl.createdAt DESC")
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,14 +17,75 @@ import java.util.UUID;
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, UUID> {
     
-    // Get all active comments for a post
-    @Query("SELECT c FROM Comment c WHERE c.postId = :postId AND c.isActive = true AND c.parentCommentId IS NULL ORDER BY c.createdAt DESC")
+    // Get all active comments for a post; the order comes from the pageable
+    @Query("SELECT c FROM Comment c WHERE c.postId = :postId AND c.isActive = true AND c.parentCommentId IS NULL")
     Page<Comment> findActiveRootCommentsByPostId(@Param("postId") UUID postId, Pageable pageable);
     
     // Get all active comments for a post (including replies)
     @Query("SELECT c FROM Comment c WHERE c.postId = :postId AND c.isActive = true ORDER BY c.createdAt DESC")
     List<Comment> findAllActiveCommentsByPostId(@Param("postId") UUID postId);
     
+    // Count active root comments for a post
+    @Query("SELECT COUNT(c) FROM Comment c WHERE c.postId = :postId AND c.isActive = true AND c.parentCommentId IS NULL")
+    long countActiveRootCommentsByPostId(@Param("postId") UUID postId);
+    
+    // A page of threads, newest root first, in one query: each root followed by its first replies in path order.
+    // A root's path prefixes its replies' paths, so it sorts first within its thread.
+    @Query(value = "WITH roots AS (" +
+                   "  SELECT id, created_at FROM comments WHERE post_id = :postId AND is_active = true AND parent_comment_id IS NULL" +
+                   "  ORDER BY created_at DESC, id DESC LIMIT :limit OFFSET :offset), " +
+                   "thread AS (" +
+                   "  SELECT r.id, r.created_at AS root_created_at, r.id AS root_id FROM roots r " +
+                   "  UNION ALL " +
+                   "  SELECT reply.id, r.created_at, r.id FROM roots r CROSS JOIN LATERAL (" +
+                   "    SELECT c.id FROM comments c WHERE c.root_comment_id = r.id AND c.is_active = true AND c.depth <= :maxDepth" +
+                   "    ORDER BY c.path LIMIT :repliesPerThread) reply) " +
+                   "SELECT c.* FROM thread t JOIN comments c ON c.id = t.id " +
+                   "ORDER BY t.root_created_at DESC, t.root_id DESC, c.path",
+           nativeQuery = true)
+    List<Comment> findThreadPage(@Param("postId") UUID postId,
+                                 @Param("limit") int limit,
+                                 @Param("offset") long offset,
+                                 @Param("maxDepth") int maxDepth,
+                                 @Param("repliesPerThread") int repliesPerThread);
+    
+    // Same as findThreadPage with the oldest root first; replies stay in path order
+    @Query(value = "WITH roots AS (" +
+                   "  SELECT id, created_at FROM comments WHERE post_id = :postId AND is_active = true AND parent_comment_id IS NULL" +
+                   "  ORDER BY created_at ASC, id ASC LIMIT :limit OFFSET :offset), " +
+                   "thread AS (" +
+                   "  SELECT r.id, r.created_at AS root_created_at, r.id AS root_id FROM roots r " +
+                   "  UNION ALL " +
+                   "  SELECT reply.id, r.created_at, r.id FROM roots r CROSS JOIN LATERAL (" +
+                   "    SELECT c.id FROM comments c WHERE c.root_comment_id = r.id AND c.is_active = true AND c.depth <= :maxDepth" +
+                   "    ORDER BY c.path LIMIT :repliesPerThread) reply) " +
+                   "SELECT c.* FROM thread t JOIN comments c ON c.id = t.id " +
+                   "ORDER BY t.root_created_at ASC, t.root_id ASC, c.path",
+           nativeQuery = true)
+    List<Comment> findThreadPageOldestFirst(@Param("postId") UUID postId,
+                                            @Param("limit") int limit,
+                                            @Param("offset") long offset,
+                                            @Param("maxDepth") int maxDepth,
+                                            @Param("repliesPerThread") int repliesPerThread);
+    
+    // Replies below a comment in path order, resuming after the given path; upper bound is the path followed by '/', the character after '.'
+    @Query(value = "SELECT * FROM comments WHERE root_comment_id = :rootId AND is_active = true " +
+                   "AND path > :after AND path < :subtreeEnd ORDER BY path LIMIT :limit",
+           nativeQuery = true)
+    List<Comment> findRepliesAfter(@Param("rootId") UUID rootId,
+                                   @Param("after") String after,
+                                   @Param("subtreeEnd") String subtreeEnd,
+                                   @Param("limit") int limit);
+    
+    // Soft delete every reply below a comment
+    @Modifying
+    @Query(value = "UPDATE comments SET is_active = false WHERE root_comment_id = :rootId " +
+                   "AND path > :subtreeStart AND path < :subtreeEnd",
+           nativeQuery = true)
+    void softDeleteSubtree(@Param("rootId") UUID rootId,
+                           @Param("subtreeStart") String subtreeStart,
+                           @Param("subtreeEnd") String subtreeEnd);
+    
     // Get replies for a specific comment
     @Query("SELECT c FROM Comment c WHERE c.parentCommentId = :parentCommentId AND c.isActive = true ORDER BY c.createdAt ASC")
     List<Comment> findRepliesByParentCommentId(@Param("parentCommentId") UUID parentCommentId);
@@ -36,9 +98,29 @@ public interface CommentRepository extends JpaRepository<Comment, UUID> {
     long countActiveCommentsByPostId(@Param("postId") UUID postId);
     
     // Count replies for a comment
+    // Rows of [postId, count]; posts without comments are missing from the result
+    @Query("SELECT c.postId, COUNT(c) FROM Comment c WHERE c.postId IN :postIds AND c.isActive = true GROUP BY c.postId")
+    List<Object[]> countActiveCommentsByPostIds(@Param("postIds") Collection<UUID> postIds);
+    
+    // The highest ranked active root comment of each post, same order as findTopCommentsByPostId
+    @Query(value = "SELECT DISTINCT ON (post_id) * FROM comments " +
+                   "WHERE post_id IN (:postIds) AND is_active = true AND parent_comment_id IS NULL " +
+                   "ORDER BY post_id, like_count DESC, created_at DESC",
+           nativeQuery = true)
+    List<Comment> findTopCommentPerPost(@Param("postIds") Collection<UUID> postIds);
+    
     @Query("SELECT COUNT(c) FROM Comment c WHERE c.parentCommentId = :parentCommentId AND c.isActive = true")
     long countRepliesByParentCommentId(@Param("parentCommentId") UUID parentCommentId);
     
+    // Atomic counter maintenance; counts never drop below zero
+    @Modifying
+    @Query(value = "UPDATE comments SET like_count = GREATEST(like_count + :delta, 0) WHERE id = :commentId", nativeQuery = true)
+    int adjustLikeCount(@Param("commentId") UUID commentId, @Param("delta") long delta);
+    
+    @Modifying
+    @Query(value = "UPDATE comments SET reply_count = GREATEST(reply_count + :delta, 0) WHERE id = :commentId", nativeQuery = true)
+    int adjustReplyCount(@Param("commentId") UUID commentId, @Param("delta") long delta);
+    
     // Soft delete comment
     @Modifying
     @Query("UPDATE Comment c SET c.isActive = false WHERE c.id = :commentId")
@@ -58,6 +140,10 @@ public interface CommentRepository extends JpaRepository<Comment, UUID> {
     @Query("SELECT c FROM Comment c WHERE c.userId = :userId AND c.isActive = true ORDER BY c.createdAt DESC")
     Page<Comment> findUserComments(@Param("userId") UUID userId, Pageable pageable);
     
+    // Newest active root comments, without the count a Page would run
+    @Query("SELECT c FROM Comment c WHERE c.postId = :postId AND c.isActive = true AND c.parentCommentId IS NULL ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findNewestRootComments(@Param("postId") UUID postId, Pageable pageable);
+    
     // Find top comments by like count
     @Query("SELECT c FROM Comment c WHERE c.postId = :postId AND c.isActive = true AND c.parentCommentId IS NULL ORDER BY c.likeCount DESC, c.createdAt DESC")
     List<Comment> findTopCommentsByPostId(@Param("postId") UUID postId, Pageable pageable);
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,6 +25,10 @@ public interface LikeRepository extends JpaRepository<Like, UUID> {
     // Get all likes for a post
     Page<Like> findByPostIdOrderByCreatedAtDesc(UUID postId, Pageable pageable);
     
+    // Newest likes of a post without the count query a Page needs
+    @Query("SELECT l FROM Like l WHERE l.postId = :postId ORDER BY l.createdAt DESC")
+    List<Like> findRecentByPostId(@Param("postId") UUID postId, Pageable pageable);
+    
     // Count likes for a post
     long countByPostId(UUID postId);
     
@@ -31,13 +36,28 @@ public interface LikeRepository extends JpaRepository<Like, UUID> {
     @Query("SELECT l FROM Like l WHERE l.postId IN :postIds AND l.userId = :userId")
     List<Like> findByPostIdsAndUserId(@Param("postIds") List<UUID> postIds, @Param("userId") UUID userId);
     
-    // Delete like by post and user
-    void deleteByPostIdAndUserId(UUID postId, UUID userId);
+    // Insert a like in one statement; empty if the user already liked the post
+    @Query(value = "INSERT INTO likes (id, post_id, user_id, created_at) VALUES (gen_random_uuid(), :postId, :userId, now()) " +
+                   "ON CONFLICT (post_id, user_id) DO NOTHING RETURNING *", nativeQuery = true)
+    Optional<Like> insertIfAbsent(@Param("postId") UUID postId, @Param("userId") UUID userId);
+    
+    // Delete a like in one statement; empty if there was nothing to delete
+    @Query(value = "DELETE FROM likes WHERE post_id = :postId AND user_id = :userId RETURNING *", nativeQuery = true)
+    Optional<Like> deleteReturning(@Param("postId") UUID postId, @Param("userId") UUID userId);
+    
+    // Liked post IDs and like times for a user, used to build the liked-set cache
+    @Query("SELECT l.postId, l.createdAt FROM Like l WHERE l.userId = :userId")
+    List<Object[]> findLikedPostsByUserId(@Param("userId") UUID userId, Pageable pageable);
+    
+    // Likers of a post, used to build the social proof sets
+    @Query("SELECT l.userId FROM Like l WHERE l.postId = :postId")
+    List<UUID> findUserIdsByPostId(@Param("postId") UUID postId, Pageable pageable);
+    
+    // Which of the given users liked the post; fallback for posts too large to cache
+    @Query("SELECT l.userId FROM Like l WHERE l.postId = :postId AND l.userId IN :userIds")
+    List<UUID> findLikersAmong(@Param("postId") UUID postId, @Param("userIds") Collection<UUID> userIds);
     
     // Get user's liked posts
     @Query("SELECT l FROM Like l WHERE l.userId = :userId ORDER BY l.createdAt DESC")
     Page<Like> findUserLikes(@Param("userId") UUID userId, Pageable pageable);
-    
-    // Clean up likes when a post is deleted
-    void deleteByPostId(UUID postId);
 }
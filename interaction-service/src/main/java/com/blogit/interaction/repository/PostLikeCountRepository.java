@@ -0,0 +1,28 @@
+package com.blogit.interaction.repository;
+
+import com.blogit.interaction.entity.PostLikeCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface PostLikeCountRepository extends JpaRepository<PostLikeCount, PostLikeCount.PostLikeCountId> {
+    
+    // Sum of all slots; null when the post has no counter rows yet
+    @Query("SELECT SUM(c.likeCount) FROM PostLikeCount c WHERE c.postId = :postId")
+    Long sumByPostId(@Param("postId") UUID postId);
+    
+    // Rows of [postId, sum]; posts without counter rows are missing from the result
+    @Query("SELECT c.postId, SUM(c.likeCount) FROM PostLikeCount c WHERE c.postId IN :postIds GROUP BY c.postId")
+    List<Object[]> sumByPostIds(@Param("postIds") Collection<UUID> postIds);
+    
+    @Modifying
+    @Query("DELETE FROM PostLikeCount c WHERE c.postId = :postId")
+    void deleteByPostId(@Param("postId") UUID postId);
+}
@@ -0,0 +1,31 @@
+package com.blogit.interaction.repository;
+
+import com.blogit.interaction.entity.PostPurge;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface PostPurgeRepository extends JpaRepository<PostPurge, UUID> {
+    
+    // Queue a purge; a finished purge is restarted so interactions added since are removed too
+    @Modifying
+    @Query(value = "INSERT INTO post_purge_queue (post_id, phase, deleted_likes, deleted_reactions, deleted_comment_likes, requested_at, updated_at) " +
+                   "VALUES (:postId, 'LIKES', 0, 0, 0, now(), now()) " +
+                   "ON CONFLICT (post_id) DO UPDATE SET phase = 'LIKES', cursor_comment_like_id = NULL, cursor_user_id = NULL, " +
+                   "requested_at = now(), completed_at = NULL WHERE post_purge_queue.completed_at IS NOT NULL",
+           nativeQuery = true)
+    void enqueue(@Param("postId") UUID postId);
+    
+    // Oldest unfinished purge not already being worked on by another instance
+    @Query(value = "SELECT * FROM post_purge_queue WHERE completed_at IS NULL ORDER BY requested_at LIMIT 1 FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    Optional<PostPurge> lockNextPending();
+    
+    long countByCompletedAtIsNull();
+}
@@ -0,0 +1,30 @@
+package com.blogit.interaction.repository;
+
+import com.blogit.interaction.entity.Reaction;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ReactionRepository extends JpaRepository<Reaction, UUID> {
+    
+    Optional<Reaction> findByPostIdAndUserId(UUID postId, UUID userId);
+    
+    // Caller's reactions for multiple posts (bulk check)
+    @Query("SELECT r FROM Reaction r WHERE r.postId IN :postIds AND r.userId = :userId")
+    List<Reaction> findByPostIdsAndUserId(@Param("postIds") Collection<UUID> postIds, @Param("userId") UUID userId);
+    
+    // Rows of [reactionCode, count], used to rebuild a post's counter vector
+    @Query("SELECT r.reactionCode, COUNT(r) FROM Reaction r WHERE r.postId = :postId GROUP BY r.reactionCode")
+    List<Object[]> countByPostIdGroupByCode(@Param("postId") UUID postId);
+    
+    // Remove a reaction in one statement; empty if there was none
+    @Query(value = "DELETE FROM post_reactions WHERE post_id = :postId AND user_id = :userId RETURNING *", nativeQuery = true)
+    Optional<Reaction> deleteReturning(@Param("postId") UUID postId, @Param("userId") UUID userId);
+}
@@ -0,0 +1,11 @@
+package com.blogit.interaction.repository;
+
+import com.blogit.interaction.entity.UserDirectoryEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface UserDirectoryRepository extends JpaRepository<UserDirectoryEntry, UUID> {
+}
@@ -0,0 +1,228 @@
+package com.blogit.interaction.service;
+
+import com.blogit.interaction.dto.ActivityDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+/**
+ * A user's likes, comments and comment likes as one timeline, newest first.
+ *
+ * Each source is read with its own keyset cursor on
+ * {@code (user_id, created_at, id)} and the sources are merged with a k-way
+ * merge. Sources are read lazily in small chunks, so a page costs about as
+ * many rows as it returns instead of a full page from every source. The cursor
+ * handed to the client records the position of every source.
+ */
+@Service
+@Slf4j
+public class ActivityService {
+
+    // Sorts after every real row, used when a source has no cursor yet
+    private static final LocalDateTime START_AT = LocalDateTime.of(9999, 1, 1, 0, 0);
+    private static final UUID START_ID = new UUID(-1L, -1L);
+
+    private static final String LIKES_SQL =
+            "SELECT l.id, l.created_at, l.post_id, NULL::uuid AS comment_id, NULL AS preview FROM likes l " +
+            "WHERE l.user_id = ? AND (l.created_at, l.id) < (?, ?) " +
+            "ORDER BY l.created_at DESC, l.id DESC LIMIT ?";
+
+    private static final String COMMENTS_SQL =
+            "SELECT c.id, c.created_at, c.post_id, c.id AS comment_id, LEFT(c.content, ?) AS preview FROM comments c " +
+            "WHERE c.user_id = ? AND c.is_active = true AND (c.created_at, c.id) < (?, ?) " +
+            "ORDER BY c.created_at DESC, c.id DESC LIMIT ?";
+
+    private static final String COMMENT_LIKES_SQL =
+            "SELECT cl.id, cl.created_at, c.post_id, c.id AS comment_id, LEFT(c.content, ?) AS preview " +
+            "FROM comment_likes cl JOIN comments c ON c.id = cl.comment_id " +
+            "WHERE cl.user_id = ? AND c.is_active = true AND (cl.created_at, cl.id) < (?, ?) " +
+            "ORDER BY cl.created_at DESC, cl.id DESC LIMIT ?";
+
+    private static final Comparator<Source> NEWEST_HEAD = Comparator
+            .comparing((Source source) -> source.peek().createdAt(), Comparator.reverseOrder())
+            .thenComparing(source -> source.peek().id(), Comparator.reverseOrder())
+            .thenComparing(source -> source.type);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int previewLength;
+
+    public ActivityService(JdbcTemplate jdbcTemplate,
+                           @Value("${app.summary.preview-length:200}") int previewLength) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.previewLength = previewLength;
+    }
+
+    public record ActivityPage(List<ActivityDto> activities, String nextCursor) {
+    }
+
+    public ActivityPage getUserActivity(UUID userId, String cursor, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        log.debug("Fetching activity for user {} after cursor {}, limit {}", userId, cursor, limit);
+
+        List<Source> sources = decodeCursor(userId, cursor);
+        int firstChunk = limit / sources.size() + 1;
+
+        PriorityQueue<Source> heads = new PriorityQueue<>(NEWEST_HEAD);
+        for (Source source : sources) {
+            if (source.fill(firstChunk)) {
+                heads.add(source);
+            }
+        }
+
+        List<ActivityDto> activities = new ArrayList<>(limit);
+        while (activities.size() < limit && !heads.isEmpty()) {
+            Source source = heads.poll();
+            Row row = source.next();
+            activities.add(ActivityDto.builder()
+                    .type(source.type.name())
+                    .id(row.id())
+                    .postId(row.postId())
+                    .commentId(row.commentId())
+                    .contentPreview(row.preview())
+                    .createdAt(row.createdAt())
+                    .build());
+
+            // Only read further rows from a source when it keeps winning
+            if (source.fill(limit - activities.size())) {
+                heads.add(source);
+            }
+        }
+
+        boolean more = activities.size() == limit && sources.stream().anyMatch(Source::mayHaveMore);
+        return new ActivityPage(activities, more ? encodeCursor(sources) : null);
+    }
+
+    private List<Source> decodeCursor(UUID userId, String cursor) {
+        List<Source> sources = new ArrayList<>();
+        for (SourceType type : SourceType.values()) {
+            sources.add(new Source(type, userId, START_AT, START_ID));
+        }
+        if (cursor == null || cursor.isBlank()) {
+            return sources;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            for (String part : decoded.split(",")) {
+                String[] fields = part.split("~");
+                Source source = sources.get(SourceType.valueOf(fields[0]).ordinal());
+                if (fields.length == 1) {
+                    source.exhausted = true;
+                } else {
+                    source.lastAt = LocalDateTime.parse(fields[1]);
+                    source.lastId = UUID.fromString(fields[2]);
+                }
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid activity cursor");
+        }
+        return sources;
+    }
+
+    private String encodeCursor(List<Source> sources) {
+        List<String> parts = new ArrayList<>();
+        for (Source source : sources) {
+            parts.add(source.mayHaveMore()
+                    ? source.type.name() + "~" + source.lastAt + "~" + source.lastId
+                    : source.type.name());
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.join(",", parts).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private enum SourceType {
+        POST_LIKE, COMMENT, COMMENT_LIKE
+    }
+
+    private record Row(UUID id, LocalDateTime createdAt, UUID postId, UUID commentId, String preview) {
+    }
+
+    private static final RowMapper<Row> ROW = (rs, rowNum) -> new Row(
+            rs.getObject("id", UUID.class),
+            rs.getTimestamp("created_at").toLocalDateTime(),
+            rs.getObject("post_id", UUID.class),
+            rs.getObject("comment_id", UUID.class),
+            rs.getString("preview"));
+
+    private final class Source {
+
+        private final SourceType type;
+        private final UUID userId;
+        private final Deque<Row> buffer = new ArrayDeque<>();
+        // Position of the last row handed out, which is where the next page resumes
+        private LocalDateTime lastAt;
+        private UUID lastId;
+        // Position of the last row read from the database
+        private LocalDateTime readAt;
+        private UUID readId;
+        private boolean exhausted;
+
+        private Source(SourceType type, UUID userId, LocalDateTime lastAt, UUID lastId) {
+            this.type = type;
+            this.userId = userId;
+            this.lastAt = lastAt;
+            this.lastId = lastId;
+        }
+
+        private Row peek() {
+            return buffer.peekFirst();
+        }
+
+        private Row next() {
+            Row row = buffer.pollFirst();
+            lastAt = row.createdAt();
+            lastId = row.id();
+            return row;
+        }
+
+        private boolean mayHaveMore() {
+            return !buffer.isEmpty() || !exhausted;
+        }
+
+        // Makes sure a head row is buffered, reading up to chunk rows if needed; false when the source is drained
+        private boolean fill(int chunk) {
+            if (!buffer.isEmpty()) {
+                return true;
+            }
+            if (exhausted || chunk <= 0) {
+                return false;
+            }
+
+            LocalDateTime afterAt = readAt != null ? readAt : lastAt;
+            UUID afterId = readId != null ? readId : lastId;
+            List<Row> rows = switch (type) {
+                case POST_LIKE -> jdbcTemplate.query(LIKES_SQL, ROW,
+                        userId, Timestamp.valueOf(afterAt), afterId, chunk);
+                case COMMENT -> jdbcTemplate.query(COMMENTS_SQL, ROW,
+                        previewLength, userId, Timestamp.valueOf(afterAt), afterId, chunk);
+                case COMMENT_LIKE -> jdbcTemplate.query(COMMENT_LIKES_SQL, ROW,
+                        previewLength, userId, Timestamp.valueOf(afterAt), afterId, chunk);
+            };
+
+            buffer.addAll(rows);
+            exhausted = rows.size() < chunk;
+            if (!rows.isEmpty()) {
+                Row last = rows.get(rows.size() - 1);
+                readAt = last.createdAt();
+                readId = last.id();
+            }
+            return !buffer.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.blogit.interaction.service;
+
+import com.blogit.interaction.dto.CommentDto;
+import com.blogit.interaction.dto.CreateCommentRequest;
+import com.blogit.interaction.dto.InteractionCommandDto;
+import com.blogit.interaction.dto.InteractionCommandResultDto;
+import com.blogit.interaction.dto.InteractionCommandResultDto.Status;
+import com.blogit.interaction.event.LikeCommand;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Applies a client's queued interactions in order. Like toggles on the same
+ * post collapse to the last one, and the remaining commands run in chunks of
+ * {@code app.batch.chunk-size}, each in one transaction with all of its likes
+ * written by {@link LikeBatchWriter} in two statements. If a chunk fails, its
+ * commands are retried one per transaction so one bad command only rejects
+ * itself.
+ */
+@Service
+@Slf4j
+public class BatchInteractionService {
+
+    private final LikeBatchWriter likeBatchWriter;
+    private final CommentService commentService;
+    private final PostDirectory postDirectory;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public BatchInteractionService(LikeBatchWriter likeBatchWriter,
+                                   CommentService commentService,
+                                   PostDirectory postDirectory,
+                                   TransactionTemplate transactionTemplate,
+                                   @Value("${app.batch.chunk-size:50}") int chunkSize) {
+        this.likeBatchWriter = likeBatchWriter;
+        this.commentService = commentService;
+        this.postDirectory = postDirectory;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    public List<InteractionCommandResultDto> apply(UUID userId, List<InteractionCommandDto> commands) {
+        log.debug("Applying {} batched interactions for user {}", commands.size(), userId);
+
+        InteractionCommandResultDto[] results = new InteractionCommandResultDto[commands.size()];
+        Map<UUID, Integer> lastToggle = new HashMap<>();
+        for (int i = 0; i < commands.size(); i++) {
+            InteractionCommandDto command = commands.get(i);
+            if (command.getType() != InteractionCommandDto.Type.COMMENT) {
+                Integer previous = lastToggle.put(command.getPostId(), i);
+                if (previous != null) {
+                    results[previous] = result(previous, commands.get(previous), Status.SUPERSEDED, null, null);
+                }
+            }
+        }
+
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < commands.size(); i++) {
+            if (results[i] == null) {
+                pending.add(i);
+            }
+        }
+
+        for (int start = 0; start < pending.size(); start += chunkSize) {
+            List<Integer> chunk = pending.subList(start, Math.min(start + chunkSize, pending.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> applyChunk(userId, commands, chunk, results));
+            } catch (RuntimeException e) {
+                log.warn("Batch chunk for user {} failed, retrying its {} commands one by one: {}", userId, chunk.size(), e.getMessage());
+                for (Integer index : chunk) {
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> applyChunk(userId, commands, List.of(index), results));
+                    } catch (RuntimeException commandFailure) {
+                        results[index] = result(index, commands.get(index), Status.REJECTED, null, commandFailure.getMessage());
+                    }
+                }
+            }
+        }
+        return List.of(results);
+    }
+
+    private void applyChunk(UUID userId, List<InteractionCommandDto> commands, List<Integer> chunk,
+                            InteractionCommandResultDto[] results) {
+        Map<Integer, InteractionCommandResultDto> chunkResults = new HashMap<>();
+        List<Integer> toggles = new ArrayList<>();
+        List<LikeCommand> likeCommands = new ArrayList<>();
+
+        for (Integer index : chunk) {
+            InteractionCommandDto command = commands.get(index);
+            switch (command.getType()) {
+                case LIKE, UNLIKE -> {
+                    boolean liked = command.getType() == InteractionCommandDto.Type.LIKE;
+                    // Checked up front so a missing post does not fail the whole chunk
+                    if (liked && !postDirectory.isWritable(command.getPostId(), userId)) {
+                        chunkResults.put(index, result(index, command, Status.REJECTED, null, "Post not found"));
+                        continue;
+                    }
+                    toggles.add(index);
+                    likeCommands.add(LikeCommand.builder()
+                            .postId(command.getPostId())
+                            .userId(userId)
+                            .liked(liked)
+                            .requestedAt(LocalDateTime.now())
+                            .build());
+                }
+                case COMMENT -> {
+                    if (command.getContent() == null || command.getContent().isBlank()) {
+                        chunkResults.put(index, result(index, command, Status.REJECTED, null, "Content is required"));
+                        continue;
+                    }
+                    if (!postDirectory.isWritable(command.getPostId(), userId)) {
+                        chunkResults.put(index, result(index, command, Status.REJECTED, null, "Post not found"));
+                        continue;
+                    }
+                    CommentDto comment = commentService.createComment(command.getPostId(), userId,
+                            CreateCommentRequest.builder()
+                                    .content(command.getContent())
+                                    .parentCommentId(command.getParentCommentId())
+                                    .build());
+                    chunkResults.put(index, result(index, command, Status.APPLIED, comment.getId(), null));
+                }
+            }
+        }
+
+        if (!likeCommands.isEmpty()) {
+            Set<LikeBatchWriter.LikeKey> changed = likeBatchWriter.apply(likeCommands);
+            for (Integer index : toggles) {
+                InteractionCommandDto command = commands.get(index);
+                boolean applied = changed.contains(new LikeBatchWriter.LikeKey(command.getPostId(), userId));
+                chunkResults.put(index, result(index, command, applied ? Status.APPLIED : Status.UNCHANGED, null, null));
+            }
+        }
+
+        // Only published once the chunk's work went through without an exception
+        chunkResults.forEach((index, result) -> results[index] = result);
+    }
+
+    private InteractionCommandResultDto result(int index, InteractionCommandDto command, Status status,
+                                               UUID resultId, String message) {
+        return InteractionCommandResultDto.builder()
+                .index(index)
+                .clientRef(command.getClientRef())
+                .status(status)
+                .resultId(resultId)
+                .message(message)
+                .build();
+    }
+}
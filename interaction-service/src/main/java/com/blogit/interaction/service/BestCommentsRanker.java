@@ -0,0 +1,182 @@
+package com.blogit.interaction.service;
+
+import com.blogit.interaction.dto.CommentDto;
+import com.blogit.interaction.event.CommentAddedEvent;
+import com.blogit.interaction.event.CommentLikeChangedEvent;
+import com.blogit.interaction.event.CommentThreadChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the root comments of recently read posts ranked by hot score, so the
+ * "best" sort is served from memory. The score is
+ * {@code log10(max(likes, 1)) + createdSeconds / 45000}: ten times the likes
+ * is worth 12.5 hours of recency. Because the time term is fixed at creation,
+ * a score only changes when the comment's likes do, and rankings are updated
+ * in place as comment likes commit. Rankings are rebuilt from the database
+ * after {@code app.comments.best.ttl-ms}, and at most
+ * {@code app.comments.best.max-posts} posts are kept.
+ *
+ * A like that commits while a ranking is loading leaves a stale marker, as in
+ * {@link RecentLikersCache}, so the loaded ranking is served once and not kept.
+ */
+@Component
+public class BestCommentsRanker {
+
+    private static final long SCORE_EPOCH_SECONDS = LocalDateTime.of(2024, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+    private static final double SECONDS_PER_ORDER = 45000.0;
+
+    private static final Comparator<CommentDto> BEST_FIRST = Comparator
+            .comparingDouble(BestCommentsRanker::hotScore).reversed()
+            .thenComparing(CommentDto::getId);
+
+    private final long ttlMs;
+    private final int maxPosts;
+    private final Map<UUID, Ranking> rankings = new ConcurrentHashMap<>();
+
+    public BestCommentsRanker(@Value("${app.comments.best.ttl-ms:60000}") long ttlMs,
+                              @Value("${app.comments.best.max-posts:20000}") int maxPosts) {
+        this.ttlMs = ttlMs;
+        this.maxPosts = maxPosts;
+    }
+
+    public static double hotScore(CommentDto comment) {
+        long likes = comment.getLikeCount() != null ? comment.getLikeCount() : 0;
+        long seconds = comment.getCreatedAt() != null
+                ? comment.getCreatedAt().toEpochSecond(ZoneOffset.UTC) - SCORE_EPOCH_SECONDS
+                : 0;
+        return Math.log10(Math.max(likes, 1)) + seconds / SECONDS_PER_ORDER;
+    }
+
+    /**
+     * Returns a page of the post's best root comments; {@code loader} supplies
+     * the ranking candidates when the post is not cached.
+     */
+    public Page<CommentDto> getBest(UUID postId, Pageable pageable, Supplier<List<CommentDto>> loader) {
+        long now = System.currentTimeMillis();
+        Ranking ranking = rankings.get(postId);
+        if (ranking != null && ranking.isLoaded() && now - ranking.loadedAt <= ttlMs) {
+            return ranking.page(pageable);
+        }
+
+        Ranking loaded = new Ranking(loader.get(), now);
+        // A change that committed while we were loading may be missing from the candidates; keep the marker
+        rankings.compute(postId, (id, existing) ->
+                existing != null && !existing.isLoaded() && existing.loadedAt >= now ? existing : loaded);
+        return loaded.page(pageable);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentLikeChanged(CommentLikeChangedEvent event) {
+        long now = System.currentTimeMillis();
+        rankings.compute(event.postId(), (id, existing) -> {
+            if (existing == null || !existing.isLoaded() || now - existing.loadedAt > ttlMs) {
+                return Ranking.staleMarker(now);
+            }
+            existing.adjustLikes(event.commentId(), event.liked() ? 1 : -1);
+            return existing;
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentAdded(CommentAddedEvent event) {
+        evict(event.postId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentThreadChanged(CommentThreadChangedEvent event) {
+        evict(event.postId());
+    }
+
+    public void evict(UUID postId) {
+        rankings.put(postId, Ranking.staleMarker(System.currentTimeMillis()));
+    }
+
+    @Scheduled(fixedDelayString = "${app.comments.best.ttl-ms:60000}")
+    public void evictExpired() {
+        long cutoff = System.currentTimeMillis() - ttlMs;
+        rankings.values().removeIf(ranking -> ranking.loadedAt < cutoff);
+
+        int excess = rankings.size() - maxPosts;
+        if (excess > 0) {
+            rankings.entrySet().stream()
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().loadedAt))
+                    .limit(excess)
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(rankings::remove);
+        }
+    }
+
+    private static final class Ranking {
+
+        // Null for a stale marker
+        private final NavigableSet<CommentDto> ranked;
+        private final Map<UUID, CommentDto> byId;
+        // Load time, or when the change was seen for a stale marker
+        private final long loadedAt;
+
+        private Ranking(List<CommentDto> comments, long loadedAt) {
+            this.ranked = new TreeSet<>(BEST_FIRST);
+            this.byId = new HashMap<>();
+            this.loadedAt = loadedAt;
+            for (CommentDto comment : comments) {
+                ranked.add(comment);
+                byId.put(comment.getId(), comment);
+            }
+        }
+
+        private Ranking(long changedAt) {
+            this.ranked = null;
+            this.byId = null;
+            this.loadedAt = changedAt;
+        }
+
+        private static Ranking staleMarker(long changedAt) {
+            return new Ranking(changedAt);
+        }
+
+        private boolean isLoaded() {
+            return ranked != null;
+        }
+
+        private synchronized void adjustLikes(UUID commentId, long delta) {
+            CommentDto current = byId.get(commentId);
+            if (current == null) {
+                return;
+            }
+            CommentDto updated = current.toBuilder()
+                    .likeCount(Math.max(0, current.getLikeCount() + delta))
+                    .build();
+            ranked.remove(current);
+            ranked.add(updated);
+            byId.put(commentId, updated);
+        }
+
+        private synchronized Page<CommentDto> page(Pageable pageable) {
+            List<CommentDto> content = ranked.stream()
+                    .skip(pageable.getOffset())
+                    .limit(pageable.getPageSize())
+                    .toList();
+            return new PageImpl<>(content, pageable, ranked.size());
+        }
+    }
+}
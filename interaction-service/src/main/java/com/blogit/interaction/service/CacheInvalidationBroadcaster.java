@@ -0,0 +1,107 @@
+package com.blogit.interaction.service;
+
+import com.blogit.common.kafka.TopicTailer;
+import com.blogit.interaction.config.CacheInvalidationKafkaConfig;
+import com.blogit.interaction.event.CacheInvalidationEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Tells the other instances which entries of their in-memory caches this
+ * instance's writes made stale. Keys are collected per cache and published as
+ * one message every {@code app.cache-invalidation.window-ms}; every instance
+ * reads the topic without a consumer group from the moment it starts and
+ * skips its own messages. Caches register a handler per cache name.
+ */
+@Component
+@Slf4j
+public class CacheInvalidationBroadcaster {
+
+    private final String origin = UUID.randomUUID().toString();
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final TopicTailer tailer;
+
+    private final Map<String, Set<UUID>> pending = new ConcurrentHashMap<>();
+    private final Map<String, Consumer<UUID>> handlers = new ConcurrentHashMap<>();
+
+    public CacheInvalidationBroadcaster(KafkaTemplate<String, Object> kafkaTemplate,
+                                        @Qualifier("consumerFactory") ConsumerFactory<?, ?> consumerFactory) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.tailer = new TopicTailer(consumerFactory, CacheInvalidationKafkaConfig.TOPIC_CACHE_INVALIDATIONS,
+                Map.of(JsonDeserializer.TRUSTED_PACKAGES, "com.blogit.interaction.event",
+                        JsonDeserializer.VALUE_DEFAULT_TYPE, CacheInvalidationEvent.class.getName(),
+                        JsonDeserializer.USE_TYPE_INFO_HEADERS, false),
+                this::handle);
+    }
+
+    public void register(String cache, Consumer<UUID> handler) {
+        handlers.put(cache, handler);
+    }
+
+    public void invalidate(String cache, UUID key) {
+        pending.computeIfAbsent(cache, name -> ConcurrentHashMap.newKeySet()).add(key);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        tailer.start(Instant.now());
+    }
+
+    @PreDestroy
+    public void stop() {
+        tailer.close();
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache-invalidation.window-ms:200}")
+    public void publish() {
+        pending.forEach((cache, keys) -> {
+            List<UUID> batch = new ArrayList<>();
+            for (Iterator<UUID> it = keys.iterator(); it.hasNext(); ) {
+                batch.add(it.next());
+                it.remove();
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            CacheInvalidationEvent event = CacheInvalidationEvent.builder()
+                    .origin(origin)
+                    .cache(cache)
+                    .keys(batch)
+                    .build();
+            kafkaTemplate.send(CacheInvalidationKafkaConfig.TOPIC_CACHE_INVALIDATIONS, cache, event)
+                    .whenComplete((result, exception) -> {
+                        if (exception != null) {
+                            log.error("Failed to broadcast {} invalidations for {}", batch.size(), cache, exception);
+                        }
+                    });
+        });
+    }
+
+    private void handle(Object message) {
+        if (!(message instanceof CacheInvalidationEvent event) || origin.equals(event.getOrigin())) {
+            return;
+        }
+        Consumer<UUID> handler = handlers.get(event.getCache());
+        if (handler != null && event.getKeys() != null) {
+            event.getKeys().forEach(handler);
+        }
+    }
+}
@@ -3,17 +3,30 @@ package com.blogit.interaction.service;
 import com.blogit.interaction.dto.*;
 import com.blogit.interaction.entity.Comment;
 import com.blogit.interaction.entity.CommentLike;
+import com.blogit.interaction.event.CommentAddedEvent;
 import com.blogit.interaction.event.CommentCreatedEvent;
+import com.blogit.interaction.event.CommentLikeChangedEvent;
+import com.blogit.interaction.event.CommentThreadChangedEvent;
 import com.blogit.interaction.repository.CommentLikeRepository;
 import com.blogit.interaction.repository.CommentRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -23,11 +36,104 @@ public class CommentService {
 
     private final CommentRepository commentRepository;
     private final CommentLikeRepository commentLikeRepository;
-    private final EventPublishingService eventPublishingService;
 
-    public Page<CommentDto> getCommentsForPost(UUID postId, Pageable pageable, boolean includeReplies) {
-        Page<Comment> comments = commentRepository.findActiveRootCommentsByPostId(postId, pageable);
-        return comments.map(this::mapToCommentDto);
+    private final BestCommentsRanker bestCommentsRanker;
+    private final FirstPageCommentCache firstPageCommentCache;
+    private final PostDirectory postDirectory;
+    private final UserDirectory userDirectory;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Value("${app.comments.replies-per-thread:3}")
+    private int repliesPerThread;
+
+    @Value("${app.comments.best.max-candidates:1000}")
+    private int bestCandidates;
+
+    public Page<CommentDto> getCommentsForPost(UUID postId, Pageable pageable, boolean includeReplies, int maxDepth) {
+        if (pageable.getSort().getOrderFor("best") != null) {
+            return bestCommentsRanker.getBest(postId, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()),
+                    () -> loadRankingCandidates(postId));
+        }
+
+        Sort.Order createdAt = pageable.getSort().getOrderFor("createdAt");
+        if (pageable.getSort().isSorted() && createdAt == null) {
+            throw new IllegalArgumentException("Comments can only be sorted by createdAt or best");
+        }
+        if (createdAt != null && createdAt.isAscending()) {
+            return loadCommentsForPost(postId, pageable, includeReplies, maxDepth, Sort.Direction.ASC);
+        }
+
+        // Only the default newest-first order is cached
+        return firstPageCommentCache.firstPage(postId, pageable, includeReplies, maxDepth,
+                () -> loadCommentsForPost(postId, pageable, includeReplies, maxDepth, Sort.Direction.DESC));
+    }
+
+    // The most liked and the newest root comments: a new comment outranks older ones before it has any likes
+    private List<CommentDto> loadRankingCandidates(UUID postId) {
+        Map<UUID, Comment> candidates = new LinkedHashMap<>();
+        PageRequest limit = PageRequest.of(0, bestCandidates);
+        for (Comment comment : commentRepository.findTopCommentsByPostId(postId, limit)) {
+            candidates.put(comment.getId(), comment);
+        }
+        for (Comment comment : commentRepository.findNewestRootComments(postId, limit)) {
+            candidates.putIfAbsent(comment.getId(), comment);
+        }
+        return candidates.values().stream()
+                .map(this::mapToCommentDto)
+                .collect(Collectors.toList());
+    }
+
+    private Page<CommentDto> loadCommentsForPost(UUID postId, Pageable pageable, boolean includeReplies, int maxDepth,
+                                                 Sort.Direction direction) {
+        if (!includeReplies) {
+            Page<Comment> comments = commentRepository.findActiveRootCommentsByPostId(postId,
+                    PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(direction, "createdAt", "id")));
+            return comments.map(this::mapToCommentDto);
+        }
+
+        List<Comment> threads = direction.isAscending()
+                ? commentRepository.findThreadPageOldestFirst(
+                        postId, pageable.getPageSize(), pageable.getOffset(), maxDepth, repliesPerThread)
+                : commentRepository.findThreadPage(
+                        postId, pageable.getPageSize(), pageable.getOffset(), maxDepth, repliesPerThread);
+
+        // Each root is followed by its replies in path order, so every parent is seen before its children
+        Map<UUID, CommentDto> byId = new HashMap<>();
+        List<CommentDto> roots = new ArrayList<>();
+        for (Comment comment : threads) {
+            CommentDto dto = mapToCommentDto(comment);
+            if (!comment.isReply()) {
+                roots.add(dto);
+                byId.put(comment.getId(), dto);
+                continue;
+            }
+            CommentDto parent = byId.get(comment.getParentCommentId());
+            if (parent != null) {
+                parent.getReplies().add(dto);
+                byId.put(comment.getId(), dto);
+            }
+        }
+
+        long total = commentRepository.countActiveRootCommentsByPostId(postId);
+        return new PageImpl<>(roots, pageable, total);
+    }
+
+    /**
+     * Replies anywhere below a comment, in thread order, starting after the
+     * {@code after} cursor (the path of the last reply already seen).
+     */
+    public List<CommentDto> getReplies(UUID commentId, String after, int limit) {
+        Comment parent = commentRepository.findById(commentId)
+                .filter(Comment::getIsActive)
+                .orElseThrow(() -> new IllegalArgumentException("Comment not found"));
+
+        String subtreeStart = parent.getPath() + ".";
+        String subtreeEnd = parent.getPath() + "/";
+        String cursor = after != null && after.compareTo(subtreeStart) > 0 ? after : subtreeStart;
+
+        return commentRepository.findRepliesAfter(parent.getThreadRootId(), cursor, subtreeEnd, limit).stream()
+                .map(this::mapToCommentDto)
+                .collect(Collectors.toList());
     }
 
     public CommentDto getCommentById(UUID commentId, UUID userId) {
@@ -38,27 +144,44 @@ public class CommentService {
 
     @Transactional
     public CommentDto createComment(UUID postId, UUID userId, CreateCommentRequest createRequest) {
+        UUID postOwnerId = postDirectory.requireWritable(postId, userId);
         Comment comment = Comment.builder()
                 .postId(postId)
                 .userId(userId)
                 .content(createRequest.getContent())
                 .parentCommentId(createRequest.getParentCommentId())
+                .path(Comment.newPathSegment())
                 .build();
+
+        if (createRequest.getParentCommentId() != null) {
+            Comment parent = commentRepository.findById(createRequest.getParentCommentId())
+                    .filter(p -> p.getIsActive() && p.getPostId().equals(postId))
+                    .orElseThrow(() -> new IllegalArgumentException("Parent comment not found"));
+            if (parent.getDepth() >= Comment.MAX_DEPTH) {
+                throw new IllegalArgumentException("Replies cannot be nested more than " + Comment.MAX_DEPTH + " levels deep");
+            }
+            comment.setRootCommentId(parent.getThreadRootId());
+            comment.setPath(parent.getPath() + "." + comment.getPath());
+            comment.setDepth(parent.getDepth() + 1);
+            commentRepository.adjustReplyCount(parent.getId(), 1);
+        }
         comment = commentRepository.save(comment);
+        CommentDto created = mapToCommentDto(comment);
+        applicationEventPublisher.publishEvent(new CommentAddedEvent(postId, comment.getId(), userId,
+                created.toBuilder().replies(new ArrayList<>()).build()));
         
-        // Publish event (postOwnerId would be fetched from post service in real implementation)
         CommentCreatedEvent event = CommentCreatedEvent.create(
             comment.getId(),
             postId,
             userId,
-            null, // postOwnerId - would be fetched from post service
+            postOwnerId,
             createRequest.getContent(),
             createRequest.getParentCommentId(),
-            new ArrayList<>() // mentionedUsers - would be extracted from content
+            userDirectory.extractMentions(createRequest.getContent(), userId)
         );
-        eventPublishingService.publishCommentCreatedEvent(event);
+        applicationEventPublisher.publishEvent(event);
         
-        return mapToCommentDto(comment);
+        return created;
     }
 
     @Transactional
@@ -68,6 +191,7 @@ public class CommentService {
         comment.setContent(updateRequest.getContent());
         comment.setIsEdited(true);
         comment = commentRepository.save(comment);
+        applicationEventPublisher.publishEvent(new CommentThreadChangedEvent(comment.getPostId(), commentId));
         return mapToCommentDto(comment);
     }
 
@@ -76,7 +200,60 @@ public class CommentService {
         Comment comment = commentRepository.findByIdAndUserId(commentId, userId)
                 .orElseThrow(() -> new IllegalArgumentException("Comment not found"));
         commentRepository.softDeleteComment(commentId);
-        commentRepository.softDeleteRepliesByParentCommentId(commentId);
+        if (comment.isReply() && comment.getIsActive()) {
+            commentRepository.adjustReplyCount(comment.getParentCommentId(), -1);
+        }
+        commentRepository.softDeleteSubtree(comment.getThreadRootId(), comment.getPath() + ".", comment.getPath() + "/");
+        applicationEventPublisher.publishEvent(new CommentThreadChangedEvent(comment.getPostId(), commentId));
+    }
+
+    public Map<UUID, LikeStatusDto> bulkCheckUserCommentLikeStatus(List<UUID> commentIds, UUID userId) {
+        Map<UUID, LocalDateTime> likedComments = new HashMap<>();
+        for (CommentLike like : commentLikeRepository.findByCommentIdsAndUserId(commentIds, userId)) {
+            likedComments.put(like.getCommentId(), like.getCreatedAt());
+        }
+
+        Map<UUID, LikeStatusDto> likeStatuses = new LinkedHashMap<>();
+        for (UUID commentId : commentIds) {
+            LocalDateTime likedAt = likedComments.get(commentId);
+            likeStatuses.put(commentId, LikeStatusDto.builder()
+                    .isLiked(likedAt != null)
+                    .likedAt(likedAt)
+                    .build());
+        }
+        return likeStatuses;
+    }
+
+    public Map<UUID, Long> countActiveComments(Collection<UUID> postIds) {
+        Map<UUID, Long> counts = new HashMap<>();
+        for (Object[] row : commentRepository.countActiveCommentsByPostIds(postIds)) {
+            counts.put((UUID) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    // Top root comment per post with its content cut down to a preview
+    public Map<UUID, CommentDto> getTopCommentPreviews(Collection<UUID> postIds, int previewLength) {
+        Map<UUID, CommentDto> previews = new HashMap<>();
+        for (Comment comment : commentRepository.findTopCommentPerPost(postIds)) {
+            CommentDto dto = mapToCommentDto(comment);
+            String content = dto.getContent();
+            if (content != null && content.codePointCount(0, content.length()) > previewLength) {
+                // Cut on a code point boundary so a surrogate pair is never split
+                dto.setContent(content.substring(0, content.offsetByCodePoints(0, previewLength)) + "…");
+            }
+            dto.setReplies(null);
+            dto.setAuthor(userDirectory.find(comment.getUserId())
+                    .map(user -> UserAuthorDto.builder()
+                            .id(comment.getUserId())
+                            .username(user.username())
+                            .fullName(user.fullName())
+                            .profileImage(user.profileImage())
+                            .build())
+                    .orElse(null));
+            previews.put(comment.getPostId(), dto);
+        }
+        return previews;
     }
 
     public Page<CommentDto> getUserComments(UUID userId, Pageable pageable) {
@@ -84,19 +261,27 @@ public class CommentService {
         return comments.map(this::mapToCommentDto);
     }
 
+    @Transactional
     public void likeComment(UUID commentId, UUID userId) {
-        if (commentLikeRepository.existsByCommentIdAndUserId(commentId, userId)) {
+        Comment comment = commentRepository.findById(commentId)
+                .filter(Comment::getIsActive)
+                .orElseThrow(() -> new IllegalArgumentException("Comment not found"));
+        if (commentLikeRepository.insertIfAbsent(commentId, userId).isEmpty()) {
             throw new IllegalArgumentException("Comment already liked by user");
         }
-        CommentLike commentLike = CommentLike.builder()
-                .commentId(commentId)
-                .userId(userId)
-                .build();
-        commentLikeRepository.save(commentLike);
+        if (commentRepository.adjustLikeCount(commentId, 1) == 0) {
+            throw new IllegalArgumentException("Comment not found");
+        }
+        applicationEventPublisher.publishEvent(new CommentLikeChangedEvent(comment.getPostId(), commentId, userId, true));
     }
 
+    @Transactional
     public void unlikeComment(UUID commentId, UUID userId) {
-        commentLikeRepository.deleteByCommentIdAndUserId(commentId, userId);
+        if (commentLikeRepository.deleteReturning(commentId, userId).isPresent()) {
+            commentRepository.adjustLikeCount(commentId, -1);
+            commentRepository.findById(commentId).ifPresent(comment -> applicationEventPublisher.publishEvent(
+                    new CommentLikeChangedEvent(comment.getPostId(), commentId, userId, false)));
+        }
     }
 
     public Page<CommentDto> getCommentLikes(UUID commentId, Pageable pageable) {
@@ -117,6 +302,7 @@ public class CommentService {
     public void softDeletePostComments(UUID postId) {
         // log.info("Soft deleting all comments for post: {}", postId); // Original code had this line commented out
         commentRepository.softDeleteCommentsByPostId(postId);
+        applicationEventPublisher.publishEvent(new CommentThreadChangedEvent(postId, null));
     }
 
     private CommentDto mapToCommentDto(Comment comment) {
@@ -124,6 +310,8 @@ public class CommentService {
                 .id(comment.getId())
                 .postId(comment.getPostId())
                 .parentCommentId(comment.getParentCommentId())
+                .depth(comment.getDepth())
+                .path(comment.getPath())
                 .content(comment.getContent())
                 .likeCount(comment.getLikeCount())
                 .replyCount(comment.getReplyCount())
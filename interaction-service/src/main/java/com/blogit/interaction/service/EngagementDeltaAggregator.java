@@ -0,0 +1,132 @@
+package com.blogit.interaction.service;
+
+import com.blogit.interaction.event.CommentAddedEvent;
+import com.blogit.interaction.event.PostEngagementDeltaEvent;
+import com.blogit.interaction.event.PostLikeChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Folds committed likes, unlikes and comments into one
+ * {@link PostEngagementDeltaEvent} per post per tumbling window
+ * ({@code app.engagement.window-ms}). A post liked a thousand times within a
+ * window produces one message instead of a thousand.
+ *
+ * Accumulators are only touched inside {@link ConcurrentHashMap#compute} and
+ * removed atomically when the window closes, so every change lands in exactly
+ * one window.
+ */
+@Component
+@Slf4j
+public class EngagementDeltaAggregator {
+
+    private final EventPublishingService eventPublishingService;
+    private final PostDirectory postDirectory;
+    private final boolean enabled;
+    private final int sampleSize;
+
+    private final Map<UUID, Accumulator> windows = new ConcurrentHashMap<>();
+
+    public EngagementDeltaAggregator(EventPublishingService eventPublishingService,
+                                     PostDirectory postDirectory,
+                                     @Value("${app.engagement.delta.enabled:true}") boolean enabled,
+                                     @Value("${app.engagement.sample-size:5}") int sampleSize) {
+        this.eventPublishingService = eventPublishingService;
+        this.postDirectory = postDirectory;
+        this.enabled = enabled;
+        this.sampleSize = sampleSize;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLikeChanged(PostLikeChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        windows.compute(event.postId(), (postId, accumulator) -> {
+            Accumulator current = accumulator != null ? accumulator : new Accumulator();
+            if (event.liked()) {
+                current.likesAdded++;
+                sample(current.likers, event.userId());
+            } else {
+                current.likesRemoved++;
+            }
+            return current;
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentAdded(CommentAddedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        windows.compute(event.postId(), (postId, accumulator) -> {
+            Accumulator current = accumulator != null ? accumulator : new Accumulator();
+            current.commentsAdded++;
+            sample(current.commenters, event.userId());
+            return current;
+        });
+    }
+
+    @Scheduled(fixedRateString = "${app.engagement.window-ms:500}")
+    public void closeWindow() {
+        if (windows.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime windowEnd = LocalDateTime.now();
+        int published = 0;
+        for (UUID postId : List.copyOf(windows.keySet())) {
+            Accumulator accumulator = windows.remove(postId);
+            if (accumulator == null || accumulator.isEmpty()) {
+                continue;
+            }
+            eventPublishingService.publishPostEngagementDelta(PostEngagementDeltaEvent.create(
+                    PostEngagementDeltaEvent.PostEngagementDeltaData.builder()
+                            .postId(postId)
+                            .postOwnerId(postDirectory.find(postId).map(PostDirectory.PostInfo::ownerId).orElse(null))
+                            .likesAdded(accumulator.likesAdded)
+                            .likesRemoved(accumulator.likesRemoved)
+                            .commentsAdded(accumulator.commentsAdded)
+                            .sampleLikers(accumulator.likers)
+                            .sampleCommenters(accumulator.commenters)
+                            .windowStart(accumulator.openedAt)
+                            .windowEnd(windowEnd)
+                            .build()));
+            published++;
+        }
+        log.debug("Published engagement deltas for {} posts", published);
+    }
+
+    // Keeps the most recent distinct actors
+    private void sample(List<UUID> actors, UUID userId) {
+        actors.remove(userId);
+        actors.add(userId);
+        if (actors.size() > sampleSize) {
+            actors.remove(0);
+        }
+    }
+
+    private static class Accumulator {
+        private final LocalDateTime openedAt = LocalDateTime.now();
+        private final List<UUID> likers = new ArrayList<>();
+        private final List<UUID> commenters = new ArrayList<>();
+        private long likesAdded;
+        private long likesRemoved;
+        private long commentsAdded;
+
+        private boolean isEmpty() {
+            return likesAdded == 0 && likesRemoved == 0 && commentsAdded == 0;
+        }
+    }
+}
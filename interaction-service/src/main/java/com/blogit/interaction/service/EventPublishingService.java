@@ -1,14 +1,23 @@
 package com.blogit.interaction.service;
 
+import com.blogit.interaction.config.LikeCommandKafkaConfig;
 import com.blogit.interaction.event.CommentCreatedEvent;
+import com.blogit.interaction.event.LikeCommand;
+import com.blogit.interaction.event.PostEngagementDeltaEvent;
 import com.blogit.interaction.event.PostLikedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Service
 @RequiredArgsConstructor
@@ -20,7 +29,16 @@ public class EventPublishingService {
     private static final String POST_INTERACTION_TOPIC = "post-interaction-events";
     private static final String COMMENT_INTERACTION_TOPIC = "comment-interaction-events";
 
+    // Per-like messages are superseded by the windowed engagement deltas
+    @Value("${app.engagement.per-like-events:false}")
+    private boolean perLikeEvents;
+
+    // Sent once the like commits, so a rolled back or retried write never reaches consumers
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void publishPostLikedEvent(PostLikedEvent event) {
+        if (!perLikeEvents) {
+            return;
+        }
         try {
             log.debug("Publishing PostLikedEvent: {}", event);
             
@@ -44,6 +62,45 @@ public class EventPublishingService {
         }
     }
 
+    public void publishPostEngagementDelta(PostEngagementDeltaEvent event) {
+        try {
+            log.debug("Publishing PostEngagementDeltaEvent: {}", event);
+            
+            CompletableFuture<SendResult<String, Object>> future = kafkaTemplate.send(
+                    POST_INTERACTION_TOPIC, 
+                    event.getData().getPostId().toString(), 
+                    event
+            );
+            
+            future.whenComplete((result, exception) -> {
+                if (exception != null) {
+                    log.error("Failed to publish PostEngagementDeltaEvent for post: {}", 
+                            event.getData().getPostId(), exception);
+                }
+            });
+        } catch (Exception e) {
+            log.error("Error publishing PostEngagementDeltaEvent: {}", event, e);
+        }
+    }
+
+    /**
+     * Queues a like command and waits for the broker to acknowledge it, so an
+     * accepted command survives a restart of this instance.
+     */
+    public void publishLikeCommand(LikeCommand command) {
+        try {
+            kafkaTemplate.send(LikeCommandKafkaConfig.TOPIC_LIKE_COMMANDS, command.getPostId().toString(), command)
+                    .get(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing like command", e);
+        } catch (ExecutionException | TimeoutException e) {
+            log.error("Failed to queue like command for post: {} by user: {}", command.getPostId(), command.getUserId(), e);
+            throw new IllegalStateException("Failed to queue like command", e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void publishCommentCreatedEvent(CommentCreatedEvent event) {
         try {
             log.debug("Publishing CommentCreatedEvent: {}", event);
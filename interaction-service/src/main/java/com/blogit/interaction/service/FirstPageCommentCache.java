@@ -0,0 +1,242 @@
+package com.blogit.interaction.service;
+
+import com.blogit.interaction.dto.CommentDto;
+import com.blogit.interaction.event.CommentAddedEvent;
+import com.blogit.interaction.event.CommentLikeChangedEvent;
+import com.blogit.interaction.event.CommentThreadChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the first page of recently read posts' comments, newest first, so the
+ * common read skips the thread query and its count.
+ *
+ * New root comments are written through into the cached pages as they commit;
+ * replies, edits and deletes drop the post's pages instead. After any change a
+ * post is not reloaded until {@code app.comments.first-page.coalesce-ms} has
+ * passed, so a burst of writes sends reads to the database for a moment rather
+ * than reloading the page once per write. Like counts are adjusted in place, as
+ * in {@link BestCommentsRanker}.
+ *
+ * Comment writes on other instances drop the post's pages through
+ * {@link CacheInvalidationBroadcaster}; their likes are not broadcast and show
+ * up within {@code app.comments.first-page.ttl-ms}.
+ */
+@Component
+public class FirstPageCommentCache {
+
+    private static final String CACHE_NAME = "comment-pages";
+
+    private final int maxPageSize;
+    private final int maxPosts;
+    private final long ttlMs;
+    private final long coalesceMs;
+    private final CacheInvalidationBroadcaster broadcaster;
+
+    private final Map<UUID, PostPages> posts = new ConcurrentHashMap<>();
+
+    public FirstPageCommentCache(@Value("${app.comments.first-page.max-page-size:50}") int maxPageSize,
+                                 @Value("${app.comments.first-page.max-posts:20000}") int maxPosts,
+                                 @Value("${app.comments.first-page.ttl-ms:5000}") long ttlMs,
+                                 @Value("${app.comments.first-page.coalesce-ms:250}") long coalesceMs,
+                                 CacheInvalidationBroadcaster broadcaster) {
+        this.maxPageSize = maxPageSize;
+        this.maxPosts = maxPosts;
+        this.ttlMs = ttlMs;
+        this.coalesceMs = coalesceMs;
+        this.broadcaster = broadcaster;
+        broadcaster.register(CACHE_NAME, this::invalidate);
+    }
+
+    /**
+     * Returns page 0 of the post's comments; {@code loader} reads it from the
+     * database when the page is not cached. Other pages always go to the loader.
+     */
+    public Page<CommentDto> firstPage(UUID postId, Pageable pageable, boolean includeReplies, int maxDepth,
+                                      Supplier<Page<CommentDto>> loader) {
+        if (pageable.getPageNumber() != 0 || pageable.getPageSize() > maxPageSize) {
+            return loader.get();
+        }
+
+        Shape shape = new Shape(pageable.getPageSize(), includeReplies, includeReplies ? maxDepth : 0);
+        long now = System.currentTimeMillis();
+        PostPages current = posts.get(postId);
+        if (current != null) {
+            CachedPage cached = current.pages.get(shape);
+            if (cached != null && now - cached.loadedAt < ttlMs) {
+                return new PageImpl<>(cached.comments, pageable, cached.total);
+            }
+            if (now - current.changedAt < coalesceMs) {
+                return loader.get();
+            }
+        }
+
+        Page<CommentDto> loaded = loader.get();
+        CachedPage page = new CachedPage(List.copyOf(loaded.getContent()), loaded.getTotalElements(), now);
+
+        // A change that committed while we were loading may be missing from the page; keep it out of the cache
+        posts.compute(postId, (id, existing) -> {
+            if (existing == null) {
+                return new PostPages(Map.of(shape, page), 0);
+            }
+            return existing.changedAt >= now ? existing : existing.with(shape, page);
+        });
+        return loaded;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentAdded(CommentAddedEvent event) {
+        broadcaster.invalidate(CACHE_NAME, event.postId());
+        CommentDto comment = event.comment();
+        if (comment == null || comment.getParentCommentId() != null || comment.getCreatedAt() == null) {
+            // A reply changes reply counts and thread previews across the page, so start over
+            invalidate(event.postId());
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        posts.compute(event.postId(), (id, existing) ->
+                existing == null ? PostPages.changedAt(now) : existing.prepend(comment, now, ttlMs));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentThreadChanged(CommentThreadChangedEvent event) {
+        invalidate(event.postId());
+        broadcaster.invalidate(CACHE_NAME, event.postId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentLikeChanged(CommentLikeChangedEvent event) {
+        posts.computeIfPresent(event.postId(), (id, existing) ->
+                existing.adjustLikes(event.commentId(), event.liked() ? 1 : -1));
+    }
+
+    public void invalidate(UUID postId) {
+        posts.put(postId, PostPages.changedAt(System.currentTimeMillis()));
+    }
+
+    @Scheduled(fixedDelayString = "${app.comments.first-page.ttl-ms:5000}")
+    public void evictExpired() {
+        long cutoff = System.currentTimeMillis() - ttlMs;
+        posts.values().removeIf(entry -> entry.lastTouched() < cutoff);
+
+        int excess = posts.size() - maxPosts;
+        if (excess > 0) {
+            posts.entrySet().stream()
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().lastTouched()))
+                    .limit(excess)
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(posts::remove);
+        }
+    }
+
+    private static CommentDto withLikes(CommentDto comment, UUID commentId, long delta) {
+        if (comment.getId().equals(commentId)) {
+            long likes = comment.getLikeCount() != null ? comment.getLikeCount() : 0;
+            return comment.toBuilder().likeCount(Math.max(0, likes + delta)).build();
+        }
+        if (comment.getReplies() == null || comment.getReplies().isEmpty()) {
+            return comment;
+        }
+        List<CommentDto> replies = withLikes(comment.getReplies(), commentId, delta);
+        return replies == comment.getReplies() ? comment : comment.toBuilder().replies(replies).build();
+    }
+
+    // Returns the same list when no comment in it matched
+    private static List<CommentDto> withLikes(List<CommentDto> comments, UUID commentId, long delta) {
+        List<CommentDto> updated = null;
+        for (int i = 0; i < comments.size(); i++) {
+            CommentDto comment = comments.get(i);
+            CommentDto adjusted = withLikes(comment, commentId, delta);
+            if (adjusted != comment) {
+                updated = new ArrayList<>(comments);
+                updated.set(i, adjusted);
+                break;
+            }
+        }
+        return updated != null ? List.copyOf(updated) : comments;
+    }
+
+    // Everything about a request that changes what page 0 holds
+    private record Shape(int size, boolean includeReplies, int maxDepth) {
+    }
+
+    private record CachedPage(List<CommentDto> comments, long total, long loadedAt) {
+    }
+
+    /**
+     * Cached pages of one post, immutable and replaced on every change.
+     * {@code changedAt} is when a write last touched the post on this instance.
+     */
+    private record PostPages(Map<Shape, CachedPage> pages, long changedAt) {
+
+        private static PostPages changedAt(long now) {
+            return new PostPages(Map.of(), now);
+        }
+
+        private long lastTouched() {
+            long touched = changedAt;
+            for (CachedPage page : pages.values()) {
+                touched = Math.max(touched, page.loadedAt);
+            }
+            return touched;
+        }
+
+        private PostPages with(Shape shape, CachedPage page) {
+            Map<Shape, CachedPage> updated = new HashMap<>(pages);
+            updated.put(shape, page);
+            return new PostPages(Map.copyOf(updated), changedAt);
+        }
+
+        private PostPages prepend(CommentDto comment, long now, long ttlMs) {
+            Map<Shape, CachedPage> updated = new HashMap<>();
+            pages.forEach((shape, page) -> {
+                if (now - page.loadedAt >= ttlMs) {
+                    return;
+                }
+                if (page.comments.stream().anyMatch(existing -> existing.getId().equals(comment.getId()))) {
+                    // Loaded after the comment committed
+                    updated.put(shape, page);
+                    return;
+                }
+                List<CommentDto> comments = new ArrayList<>(Math.min(page.comments.size() + 1, shape.size()));
+                comments.add(comment);
+                for (int i = 0; i < page.comments.size() && comments.size() < shape.size(); i++) {
+                    comments.add(page.comments.get(i));
+                }
+                updated.put(shape, new CachedPage(List.copyOf(comments), page.total + 1, page.loadedAt));
+            });
+            return new PostPages(Map.copyOf(updated), now);
+        }
+
+        private PostPages adjustLikes(UUID commentId, long delta) {
+            Map<Shape, CachedPage> updated = new HashMap<>(pages);
+            boolean changed = false;
+            for (Map.Entry<Shape, CachedPage> entry : pages.entrySet()) {
+                CachedPage page = entry.getValue();
+                List<CommentDto> comments = withLikes(page.comments, commentId, delta);
+                if (comments != page.comments) {
+                    updated.put(entry.getKey(), new CachedPage(comments, page.total, page.loadedAt));
+                    changed = true;
+                }
+            }
+            return changed ? new PostPages(Map.copyOf(updated), changedAt) : this;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.blogit.interaction.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory replica of who each user follows, as sorted ordinal sets, loaded
+ * from user-service and kept current from user-events by
+ * {@code FollowGraphConsumer}.
+ */
+@Component
+@RequiredArgsConstructor
+public class FolloweeSets {
+
+    private final UserOrdinals userOrdinals;
+    private final Map<UUID, int[]> followees = new ConcurrentHashMap<>();
+
+    public void follow(UUID followerId, UUID followingId) {
+        int ordinal = userOrdinals.ordinalOf(followingId);
+        followees.merge(followerId, new int[]{ordinal}, (current, added) -> SortedIntSets.with(current, ordinal));
+    }
+
+    public void unfollow(UUID followerId, UUID followingId) {
+        int ordinal = userOrdinals.ordinalOf(followingId);
+        followees.computeIfPresent(followerId, (id, current) -> {
+            int[] updated = SortedIntSets.without(current, ordinal);
+            return updated.length == 0 ? null : updated;
+        });
+    }
+
+    public int[] getFollowees(UUID userId) {
+        return followees.getOrDefault(userId, SortedIntSets.EMPTY);
+    }
+}
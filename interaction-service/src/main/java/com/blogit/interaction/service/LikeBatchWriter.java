@@ -0,0 +1,156 @@
+package com.blogit.interaction.service;
+
+import com.blogit.interaction.event.LikeCommand;
+import com.blogit.interaction.event.PostLikeChangedEvent;
+import com.blogit.interaction.event.PostLikedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Applies like commands in bulk: every batch is collapsed to the last command
+ * per (post, user) and written with one multi-row insert and one multi-row
+ * delete. Only rows that actually changed produce events.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LikeBatchWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO likes (id, post_id, user_id, created_at) " +
+            "SELECT gen_random_uuid(), c.post_id, c.user_id, c.created_at " +
+            "FROM unnest(?::uuid[], ?::uuid[], ?::timestamp[]) AS c(post_id, user_id, created_at) " +
+            "ON CONFLICT (post_id, user_id) DO NOTHING " +
+            "RETURNING id, post_id, user_id, created_at";
+
+    private static final String DELETE_SQL =
+            "DELETE FROM likes l USING unnest(?::uuid[], ?::uuid[]) AS c(post_id, user_id) " +
+            "WHERE l.post_id = c.post_id AND l.user_id = c.user_id " +
+            "RETURNING l.id, l.post_id, l.user_id, l.created_at";
+
+    private static final RowMapper<ChangedLike> CHANGED_LIKE = (rs, rowNum) -> new ChangedLike(
+            rs.getObject("id", UUID.class),
+            rs.getObject("post_id", UUID.class),
+            rs.getObject("user_id", UUID.class),
+            rs.getTimestamp("created_at").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final PostDirectory postDirectory;
+
+    @Transactional
+    public int write(Collection<LikeCommand> commands) {
+        return apply(commands).size();
+    }
+
+    /**
+     * Writes the commands and returns the (post, user) pairs whose like state
+     * actually changed.
+     */
+    @Transactional
+    public Set<LikeKey> apply(Collection<LikeCommand> commands) {
+        List<LikeCommand> likes = new ArrayList<>();
+        List<LikeCommand> unlikes = new ArrayList<>();
+        for (LikeCommand command : collapse(commands)) {
+            if (!command.isLiked()) {
+                unlikes.add(command);
+            } else if (postDirectory.isWritable(command.getPostId(), command.getUserId())) {
+                likes.add(command);
+            } else {
+                // The post was deleted or hidden after the command was queued
+                log.debug("Dropping like of unavailable post {} by user {}", command.getPostId(), command.getUserId());
+            }
+        }
+
+        List<ChangedLike> inserted = likes.isEmpty() ? List.of() : insert(likes);
+        List<ChangedLike> deleted = unlikes.isEmpty() ? List.of() : delete(unlikes);
+
+        Set<LikeKey> changed = new HashSet<>();
+        for (ChangedLike like : inserted) {
+            changed.add(new LikeKey(like.postId(), like.userId()));
+            applicationEventPublisher.publishEvent(
+                    new PostLikeChangedEvent(like.postId(), like.userId(), true, like.id(), like.createdAt()));
+            applicationEventPublisher.publishEvent(
+                    PostLikedEvent.create(like.postId(), like.userId(), ownerOf(like.postId()), like.id()));
+        }
+        for (ChangedLike like : deleted) {
+            changed.add(new LikeKey(like.postId(), like.userId()));
+            applicationEventPublisher.publishEvent(
+                    new PostLikeChangedEvent(like.postId(), like.userId(), false, like.id(), like.createdAt()));
+        }
+
+        log.debug("Applied {} like commands: {} inserted, {} deleted", commands.size(), inserted.size(), deleted.size());
+        return changed;
+    }
+
+    private UUID ownerOf(UUID postId) {
+        return postDirectory.find(postId).map(PostDirectory.PostInfo::ownerId).orElse(null);
+    }
+
+    // Later commands for the same (post, user) win, so a like followed by an unlike cancels out
+    private Collection<LikeCommand> collapse(Collection<LikeCommand> commands) {
+        Map<LikeKey, LikeCommand> latest = new LinkedHashMap<>();
+        for (LikeCommand command : commands) {
+            latest.put(new LikeKey(command.getPostId(), command.getUserId()), command);
+        }
+        return latest.values();
+    }
+
+    private List<ChangedLike> insert(List<LikeCommand> commands) {
+        UUID[] postIds = new UUID[commands.size()];
+        UUID[] userIds = new UUID[commands.size()];
+        Timestamp[] createdAt = new Timestamp[commands.size()];
+        for (int i = 0; i < commands.size(); i++) {
+            LikeCommand command = commands.get(i);
+            postIds[i] = command.getPostId();
+            userIds[i] = command.getUserId();
+            createdAt[i] = Timestamp.valueOf(command.getRequestedAt() != null ? command.getRequestedAt() : LocalDateTime.now());
+        }
+
+        return jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(INSERT_SQL);
+            statement.setArray(1, connection.createArrayOf("uuid", postIds));
+            statement.setArray(2, connection.createArrayOf("uuid", userIds));
+            statement.setArray(3, connection.createArrayOf("timestamp", createdAt));
+            return statement;
+        }, CHANGED_LIKE);
+    }
+
+    private List<ChangedLike> delete(List<LikeCommand> commands) {
+        UUID[] postIds = new UUID[commands.size()];
+        UUID[] userIds = new UUID[commands.size()];
+        for (int i = 0; i < commands.size(); i++) {
+            postIds[i] = commands.get(i).getPostId();
+            userIds[i] = commands.get(i).getUserId();
+        }
+
+        return jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(DELETE_SQL);
+            statement.setArray(1, connection.createArrayOf("uuid", postIds));
+            statement.setArray(2, connection.createArrayOf("uuid", userIds));
+            return statement;
+        }, CHANGED_LIKE);
+    }
+
+    public record LikeKey(UUID postId, UUID userId) {
+    }
+
+    private record ChangedLike(UUID id, UUID postId, UUID userId, LocalDateTime createdAt) {
+    }
+}
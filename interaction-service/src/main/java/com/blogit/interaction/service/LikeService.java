@@ -3,19 +3,32 @@ package com.blogit.interaction.service;
 import com.blogit.interaction.dto.LikeDto;
 import com.blogit.interaction.dto.LikeStatusDto;
 import com.blogit.interaction.entity.Like;
+import com.blogit.interaction.entity.Reaction;
+import com.blogit.interaction.event.LikeCommand;
+import com.blogit.interaction.event.PostLikeChangedEvent;
 import com.blogit.interaction.event.PostLikedEvent;
 import com.blogit.interaction.repository.LikeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -24,27 +37,24 @@ public class LikeService {
 
     private final LikeRepository likeRepository;
     private final EventPublishingService eventPublishingService;
+    private final PostLikeCounterService postLikeCounterService;
+    private final UserLikedSetCache userLikedSetCache;
+    private final RecentLikersCache recentLikersCache;
+    private final ReactionService reactionService;
+    private final PostPurgeService postPurgeService;
+    private final PostDirectory postDirectory;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.likes.write-behind.enabled:false}")
+    private boolean writeBehind;
 
     @Transactional
     public LikeDto likePost(UUID postId, UUID userId) {
         log.debug("User {} attempting to like post {}", userId, postId);
         
-        if (likeRepository.existsByPostIdAndUserId(postId, userId)) {
-            throw new IllegalArgumentException("Post already liked by user");
-        }
-
-        Like like = Like.builder()
-                .postId(postId)
-                .userId(userId)
-                .build();
-
-        like = likeRepository.save(like);
-        log.info("User {} successfully liked post {}", userId, postId);
-
-        // Publish event (postOwnerId would be fetched from post service in real implementation)
-        PostLikedEvent event = PostLikedEvent.create(postId, userId, null, like.getId());
-        eventPublishingService.publishPostLikedEvent(event);
-
+        Like like = insertLike(postId, userId)
+                .orElseThrow(() -> new IllegalArgumentException("Post already liked by user"));
         return mapToLikeDto(like);
     }
 
@@ -52,18 +62,100 @@ public class LikeService {
     public void unlikePost(UUID postId, UUID userId) {
         log.debug("User {} attempting to unlike post {}", userId, postId);
         
-        if (!likeRepository.existsByPostIdAndUserId(postId, userId)) {
-            throw new IllegalArgumentException("Post is not liked by user");
+        deleteLike(postId, userId)
+                .orElseThrow(() -> new IllegalArgumentException("Post is not liked by user"));
+    }
+
+    /**
+     * Idempotently moves the like to the desired state with a single statement.
+     * When the post was already liked, {@code likedAt} is read from the existing like.
+     *
+     * With write-behind enabled the command is only queued, without touching the
+     * database, and the intended state is returned once the queue has
+     * acknowledged it.
+     */
+    public LikeStatusDto setLikeState(UUID postId, UUID userId, boolean liked) {
+        log.debug("User {} setting like state on post {} to {}", userId, postId, liked);
+        
+        if (writeBehind) {
+            // The synchronous path checks in insertLike; queued commands must be rejected before they are queued
+            if (liked) {
+                postDirectory.requireWritable(postId, userId);
+            }
+            eventPublishingService.publishLikeCommand(LikeCommand.builder()
+                    .postId(postId)
+                    .userId(userId)
+                    .liked(liked)
+                    .requestedAt(LocalDateTime.now())
+                    .build());
+            return LikeStatusDto.builder()
+                    .isLiked(liked)
+                    .likedAt(null)
+                    .build();
         }
 
-        likeRepository.deleteByPostIdAndUserId(postId, userId);
-        log.info("User {} successfully unliked post {}", userId, postId);
+        return transactionTemplate.execute(status -> {
+            if (!liked) {
+                deleteLike(postId, userId);
+                return LikeStatusDto.builder()
+                        .isLiked(false)
+                        .likedAt(null)
+                        .build();
+            }
+
+            return LikeStatusDto.builder()
+                    .isLiked(true)
+                    .likedAt(insertLike(postId, userId)
+                            .or(() -> likeRepository.findByPostIdAndUserId(postId, userId))
+                            .map(Like::getCreatedAt)
+                            .orElse(null))
+                    .build();
+        });
+    }
+
+    private Optional<Like> insertLike(UUID postId, UUID userId) {
+        UUID postOwnerId = postDirectory.requireWritable(postId, userId);
+        Optional<Like> inserted = likeRepository.insertIfAbsent(postId, userId);
+        inserted.ifPresent(like -> {
+            log.info("User {} successfully liked post {}", userId, postId);
+            applicationEventPublisher.publishEvent(
+                    new PostLikeChangedEvent(postId, userId, true, like.getId(), like.getCreatedAt()));
+
+            PostLikedEvent event = PostLikedEvent.create(postId, userId, postOwnerId, like.getId());
+            applicationEventPublisher.publishEvent(event);
+        });
+        return inserted;
+    }
+
+    private Optional<Like> deleteLike(UUID postId, UUID userId) {
+        Optional<Like> deleted = likeRepository.deleteReturning(postId, userId);
+        deleted.ifPresent(like -> {
+            log.info("User {} successfully unliked post {}", userId, postId);
+            applicationEventPublisher.publishEvent(
+                    new PostLikeChangedEvent(postId, userId, false, like.getId(), like.getCreatedAt()));
+        });
+        return deleted;
     }
 
     public Page<LikeDto> getPostLikes(UUID postId, Pageable pageable) {
         log.debug("Fetching likes for post {} with pagination: page={}, size={}", 
                  postId, pageable.getPageNumber(), pageable.getPageSize());
         
+        if (pageable.getPageNumber() == 0 && isNewestFirst(pageable.getSort())) {
+            List<RecentLikersCache.Liker> likers = recentLikersCache.firstPage(postId, pageable.getPageSize());
+            if (likers != null) {
+                List<LikeDto> content = likers.stream()
+                        .map(liker -> LikeDto.builder()
+                                .id(liker.likeId())
+                                .postId(postId)
+                                .userId(liker.userId())
+                                .createdAt(liker.likedAt())
+                                .build())
+                        .toList();
+                return new PageImpl<>(content, pageable, postLikeCounterService.getCount(postId));
+            }
+        }
+        
         Page<Like> likes = likeRepository.findByPostIdOrderByCreatedAtDesc(postId, pageable);
         return likes.map(this::mapToLikeDto);
     }
@@ -82,35 +174,47 @@ public class LikeService {
                         .build());
     }
 
-    public Map<UUID, LikeStatusDto> bulkCheckUserLikeStatus(List<UUID> postIds, UUID userId) {
+    public Map<UUID, LikeStatusDto> bulkCheckUserLikeStatus(List<UUID> postIds, UUID userId, boolean includeReactions) {
         log.debug("Bulk checking like status for user {} on {} posts", userId, postIds.size());
         
-        List<Like> userLikes = likeRepository.findByPostIdsAndUserId(postIds, userId);
-        
-        Map<UUID, LikeStatusDto> likedPosts = userLikes.stream()
-                .collect(Collectors.toMap(
-                        Like::getPostId,
-                        like -> LikeStatusDto.builder()
-                                .isLiked(true)
-                                .likedAt(like.getCreatedAt())
-                                .build()
-                ));
-
-        // Add non-liked posts
-        return postIds.stream()
-                .collect(Collectors.toMap(
-                        postId -> postId,
-                        postId -> likedPosts.getOrDefault(postId, 
-                                LikeStatusDto.builder()
-                                        .isLiked(false)
-                                        .likedAt(null)
-                                        .build())
-                ));
+        Function<UUID, LocalDateTime> likedAtLookup;
+        UserLikedSetCache.LikedSet likedSet = userLikedSetCache.get(userId);
+        if (likedSet != null) {
+            likedAtLookup = likedSet::likedAt;
+        } else {
+            // Users with too many likes to cache fall back to the database
+            Map<UUID, LocalDateTime> likedPosts = new HashMap<>();
+            for (Like like : likeRepository.findByPostIdsAndUserId(postIds, userId)) {
+                likedPosts.put(like.getPostId(), like.getCreatedAt());
+            }
+            likedAtLookup = likedPosts::get;
+        }
+
+        Map<UUID, Reaction.Type> reactions = includeReactions
+                ? reactionService.getUserReactions(postIds, userId)
+                : Map.of();
+
+        Map<UUID, LikeStatusDto> likeStatuses = new LinkedHashMap<>();
+        for (UUID postId : postIds) {
+            LocalDateTime likedAt = likedAtLookup.apply(postId);
+            Reaction.Type reaction = reactions.get(postId);
+            likeStatuses.put(postId, LikeStatusDto.builder()
+                    .isLiked(likedAt != null)
+                    .likedAt(likedAt)
+                    .reaction(reaction != null ? reaction.name() : null)
+                    .build());
+        }
+        return likeStatuses;
     }
 
     public long getPostLikeCount(UUID postId) {
         log.debug("Getting like count for post {}", postId);
-        return likeRepository.countByPostId(postId);
+        return postLikeCounterService.getCount(postId);
+    }
+
+    public Map<UUID, Long> getPostLikeCounts(Collection<UUID> postIds) {
+        log.debug("Getting like counts for {} posts", postIds.size());
+        return postLikeCounterService.getCounts(postIds);
     }
 
     public Page<LikeDto> getUserLikes(UUID userId, Pageable pageable) {
@@ -124,8 +228,19 @@ public class LikeService {
     @Transactional
     public void cleanupPostLikes(UUID postId) {
         log.debug("Cleaning up likes for deleted post {}", postId);
-        likeRepository.deleteByPostId(postId);
-        log.info("Cleaned up likes for post {}", postId);
+        // Likes and comment likes are deleted in chunks by the purge job rather than in the consumer thread
+        postPurgeService.enqueue(postId);
+        recentLikersCache.evict(postId);
+        postLikeCounterService.deleteCounts(postId);
+    }
+
+    // The derived query always orders newest first, so only an unsorted or createdAt-desc request matches the cache
+    private boolean isNewestFirst(Sort sort) {
+        if (sort.isUnsorted()) {
+            return true;
+        }
+        Sort.Order order = sort.getOrderFor("createdAt");
+        return order != null && order.isDescending() && sort.stream().count() == 1;
     }
 
     private LikeDto mapToLikeDto(Like like) {
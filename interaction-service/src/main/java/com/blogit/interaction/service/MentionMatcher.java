@@ -0,0 +1,142 @@
+package com.blogit.interaction.service;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Case-insensitive trie over usernames that resolves {@code @username}
+ * mentions in one pass over the text. Usernames never contain {@code '@'} or
+ * whitespace, so the walks started at each {@code '@'} never overlap and the
+ * whole scan stays linear in the length of the text. The longest username that
+ * ends on a word boundary wins, so {@code @john.doe} prefers "john.doe" over
+ * "john".
+ *
+ * Updates are incremental and serialized; lookups run lock-free against nodes
+ * whose child arrays are replaced copy-on-write.
+ */
+class MentionMatcher {
+
+    private final Node root = new Node();
+
+    synchronized void add(String username, UUID userId) {
+        String key = normalize(username);
+        if (key == null) {
+            return;
+        }
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.childOrCreate(key.charAt(i));
+        }
+        node.userId = userId;
+    }
+
+    synchronized void remove(String username, UUID userId) {
+        String key = normalize(username);
+        if (key == null) {
+            return;
+        }
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        // Only clear the entry if the name has not been taken over by another user meanwhile
+        if (node != null && userId.equals(node.userId)) {
+            node.userId = null;
+        }
+    }
+
+    Set<UUID> match(String text) {
+        Set<UUID> mentioned = new LinkedHashSet<>();
+        if (text == null) {
+            return mentioned;
+        }
+
+        int length = text.length();
+        for (int at = text.indexOf('@'); at >= 0; at = text.indexOf('@', at + 1)) {
+            // Skip e-mail addresses and the like
+            if (at > 0 && isWordChar(text.charAt(at - 1))) {
+                continue;
+            }
+
+            Node node = root;
+            UUID longest = null;
+            for (int i = at + 1; i < length; i++) {
+                node = node.child(Character.toLowerCase(text.charAt(i)));
+                if (node == null) {
+                    break;
+                }
+                UUID userId = node.userId;
+                if (userId != null && (i + 1 == length || !isWordChar(text.charAt(i + 1)))) {
+                    longest = userId;
+                }
+            }
+            if (longest != null) {
+                mentioned.add(longest);
+            }
+        }
+        return mentioned;
+    }
+
+    private static String normalize(String username) {
+        if (username == null || username.isEmpty()) {
+            return null;
+        }
+        // Lowercased per char to fold exactly like match() does
+        StringBuilder key = new StringBuilder(username.length());
+        for (int i = 0; i < username.length(); i++) {
+            char c = username.charAt(i);
+            if (c == '@' || Character.isWhitespace(c)) {
+                return null;
+            }
+            key.append(Character.toLowerCase(c));
+        }
+        return key.toString();
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+
+    private static final class Node {
+
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        // Sorted keys with matching children; both arrays are swapped together through the holder
+        private volatile Children children = new Children(NO_KEYS, NO_CHILDREN);
+        private volatile UUID userId;
+
+        Node child(char c) {
+            Children current = children;
+            int index = Arrays.binarySearch(current.keys(), c);
+            return index >= 0 ? current.nodes()[index] : null;
+        }
+
+        Node childOrCreate(char c) {
+            Children current = children;
+            int index = Arrays.binarySearch(current.keys(), c);
+            if (index >= 0) {
+                return current.nodes()[index];
+            }
+
+            int insertAt = -index - 1;
+            int size = current.keys().length;
+            char[] keys = new char[size + 1];
+            Node[] nodes = new Node[size + 1];
+            System.arraycopy(current.keys(), 0, keys, 0, insertAt);
+            System.arraycopy(current.nodes(), 0, nodes, 0, insertAt);
+            System.arraycopy(current.keys(), insertAt, keys, insertAt + 1, size - insertAt);
+            System.arraycopy(current.nodes(), insertAt, nodes, insertAt + 1, size - insertAt);
+            Node created = new Node();
+            keys[insertAt] = c;
+            nodes[insertAt] = created;
+            children = new Children(keys, nodes);
+            return created;
+        }
+    }
+
+    private record Children(char[] keys, Node[] nodes) {
+    }
+}
@@ -0,0 +1,96 @@
+package com.blogit.interaction.service;
+
+import com.blogit.common.exception.ResourceNotFoundException;
+import com.blogit.interaction.entity.PostDirectoryEntry;
+import com.blogit.interaction.repository.PostDirectoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Replica of postId -> (owner, active, visibility), built from post-events and
+ * persisted in {@code post_directory} so it survives restarts. Write paths use
+ * it to resolve post owners and reject interactions on deleted posts without
+ * calling post-service.
+ *
+ * Posts the directory has not seen yet (for example while post-events is still
+ * being replayed) are accepted unless {@code app.post-directory.strict} is set.
+ */
+@Component
+@Slf4j
+public class PostDirectory {
+
+    public static final String VISIBILITY_PRIVATE = "PRIVATE";
+
+    private final PostDirectoryRepository postDirectoryRepository;
+    private final boolean strict;
+    private final Map<UUID, PostInfo> posts = new ConcurrentHashMap<>();
+
+    public PostDirectory(PostDirectoryRepository postDirectoryRepository,
+                         @Value("${app.post-directory.strict:false}") boolean strict) {
+        this.postDirectoryRepository = postDirectoryRepository;
+        this.strict = strict;
+    }
+
+    public record PostInfo(UUID ownerId, boolean active, String visibility) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (PostDirectoryEntry entry : postDirectoryRepository.findAll()) {
+            posts.put(entry.getPostId(), new PostInfo(entry.getOwnerId(), entry.getIsActive(), entry.getVisibility()));
+        }
+        log.info("Loaded {} posts into the post directory", posts.size());
+    }
+
+    @Transactional
+    public void upsert(UUID postId, UUID ownerId, boolean active, String visibility) {
+        PostInfo current = posts.get(postId);
+        String resolvedVisibility = visibility != null ? visibility : current != null ? current.visibility() : null;
+        postDirectoryRepository.save(PostDirectoryEntry.builder()
+                .postId(postId)
+                .ownerId(ownerId)
+                .isActive(active)
+                .visibility(resolvedVisibility)
+                .build());
+        posts.put(postId, new PostInfo(ownerId, active, resolvedVisibility));
+    }
+
+    public Optional<PostInfo> find(UUID postId) {
+        return Optional.ofNullable(posts.get(postId));
+    }
+
+    /**
+     * Checks that the user may interact with the post and returns its owner,
+     * or {@code null} when the post is not known yet.
+     */
+    public UUID requireWritable(UUID postId, UUID userId) {
+        PostInfo info = posts.get(postId);
+        if (info == null) {
+            if (strict) {
+                throw new ResourceNotFoundException("Post", "id", postId);
+            }
+            return null;
+        }
+        if (!info.active() || (VISIBILITY_PRIVATE.equals(info.visibility()) && !info.ownerId().equals(userId))) {
+            throw new ResourceNotFoundException("Post", "id", postId);
+        }
+        return info.ownerId();
+    }
+
+    public boolean isWritable(UUID postId, UUID userId) {
+        PostInfo info = posts.get(postId);
+        if (info == null) {
+            return !strict;
+        }
+        return info.active() && (!VISIBILITY_PRIVATE.equals(info.visibility()) || info.ownerId().equals(userId));
+    }
+}
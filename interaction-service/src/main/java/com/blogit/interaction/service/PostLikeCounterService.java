@@ -0,0 +1,206 @@
+package com.blogit.interaction.service;
+
+import com.blogit.interaction.event.PostLikeChangedEvent;
+import com.blogit.interaction.repository.LikeRepository;
+import com.blogit.interaction.repository.PostLikeCountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Maintains per-post like counts in {@code post_like_counts}. Committed likes
+ * and unlikes are accumulated in memory and flushed as one batch of slot
+ * upserts every few hundred milliseconds, so a viral post costs one counter
+ * write per flush instead of a {@code COUNT(*)} per read.
+ */
+@Service
+@Slf4j
+public class PostLikeCounterService {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO post_like_counts (post_id, slot, like_count) VALUES (?, ?, ?) " +
+            "ON CONFLICT (post_id, slot) DO UPDATE SET like_count = post_like_counts.like_count + EXCLUDED.like_count";
+
+    // Serializes reconciles of one post across instances; released when the transaction ends
+    private static final String LOCK_SQL =
+            "SELECT pg_advisory_xact_lock(hashtextextended('post_like_counts:' || CAST(? AS TEXT), 0))";
+
+    private static final String OVERWRITE_SQL =
+            "INSERT INTO post_like_counts (post_id, slot, like_count) VALUES (?, ?, ?) " +
+            "ON CONFLICT (post_id, slot) DO UPDATE SET like_count = EXCLUDED.like_count";
+
+    private final PostLikeCountRepository postLikeCountRepository;
+    private final LikeRepository likeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int slots;
+
+    private final Map<UUID, PendingDelta> pending = new ConcurrentHashMap<>();
+    // Shared by writers; taken exclusively only to drop idle entries, so no increment lands on a removed adder
+    private final ReadWriteLock pendingLock = new ReentrantReadWriteLock();
+    // Held by a flush or a reconcile until its transaction completes, so neither sees the other's uncommitted progress
+    private final Lock flushLock = new ReentrantLock();
+
+    public PostLikeCounterService(PostLikeCountRepository postLikeCountRepository,
+                                  LikeRepository likeRepository,
+                                  JdbcTemplate jdbcTemplate,
+                                  @Value("${app.like-counts.slots:8}") int slots) {
+        this.postLikeCountRepository = postLikeCountRepository;
+        this.likeRepository = likeRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.slots = slots;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLikeChanged(PostLikeChangedEvent event) {
+        pendingLock.readLock().lock();
+        try {
+            pending.computeIfAbsent(event.postId(), id -> new PendingDelta()).adder.add(event.liked() ? 1 : -1);
+        } finally {
+            pendingLock.readLock().unlock();
+        }
+    }
+
+    // Counter rows are backfilled by the V2 migration and created by every flush, so a post without rows has no likes
+    @Transactional(readOnly = true)
+    public long getCount(UUID postId) {
+        Long stored = postLikeCountRepository.sumByPostId(postId);
+        PendingDelta delta = pending.get(postId);
+        return (stored != null ? stored : 0) + (delta != null ? delta.unflushed() : 0);
+    }
+
+    // Counts for several posts with one query against the counter table; as in getCount, a post without rows has no likes
+    @Transactional(readOnly = true)
+    public Map<UUID, Long> getCounts(Collection<UUID> postIds) {
+        Map<UUID, Long> stored = new HashMap<>();
+        for (Object[] row : postLikeCountRepository.sumByPostIds(postIds)) {
+            stored.put((UUID) row[0], ((Number) row[1]).longValue());
+        }
+
+        Map<UUID, Long> counts = new HashMap<>();
+        for (UUID postId : postIds) {
+            PendingDelta delta = pending.get(postId);
+            counts.put(postId, stored.getOrDefault(postId, 0L) + (delta != null ? delta.unflushed() : 0));
+        }
+        return counts;
+    }
+
+    /**
+     * Recomputes a post's count from the likes table and collapses it into a
+     * single slot. Deltas still pending on other instances are applied on top,
+     * so this is only exact when the post is quiet. Concurrent reconciles of the
+     * same post are serialized by an advisory lock and overwrite the slot rather
+     * than add to it, so they cannot double the count.
+     */
+    @Transactional
+    public long reconcile(UUID postId) {
+        jdbcTemplate.queryForList(LOCK_SQL, postId);
+        List<Runnable> rollbacks = new ArrayList<>();
+        lockUntilCompletion(flushLock, rollbacks);
+
+        PendingDelta delta = pending.get(postId);
+        if (delta != null) {
+            // Everything committed so far is included in the COUNT below
+            long previous = delta.flushed;
+            delta.flushed = delta.adder.sum();
+            rollbacks.add(() -> delta.flushed = previous);
+        }
+
+        long count = likeRepository.countByPostId(postId);
+        postLikeCountRepository.deleteByPostId(postId);
+        jdbcTemplate.update(OVERWRITE_SQL, postId, 0, count);
+        log.info("Reconciled like count for post {}: {}", postId, count);
+        return count;
+    }
+
+    @Transactional
+    public void deleteCounts(UUID postId) {
+        postLikeCountRepository.deleteByPostId(postId);
+        pending.remove(postId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.like-counts.flush-interval-ms:250}")
+    @Transactional
+    public void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        List<UUID> idle = new ArrayList<>();
+        List<Runnable> rollbacks = new ArrayList<>();
+        // Keeps the deltas pending so the next flush retries them, whether the batch or the commit fails
+        lockUntilCompletion(flushLock, rollbacks);
+
+        pending.forEach((postId, delta) -> {
+            long sum = delta.adder.sum();
+            long unflushed = sum - delta.flushed;
+            if (unflushed == 0) {
+                idle.add(postId);
+                return;
+            }
+            long previous = delta.flushed;
+            delta.flushed = sum;
+            rollbacks.add(() -> delta.flushed = previous);
+            batch.add(new Object[]{postId, ThreadLocalRandom.current().nextInt(slots), unflushed});
+        });
+
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+            log.debug("Flushed like count deltas for {} posts", batch.size());
+        }
+
+        if (!idle.isEmpty()) {
+            pendingLock.writeLock().lock();
+            try {
+                idle.forEach(postId -> pending.computeIfPresent(postId,
+                        (id, delta) -> delta.unflushed() == 0 ? null : delta));
+            } finally {
+                pendingLock.writeLock().unlock();
+            }
+        }
+    }
+
+    // Rollbacks run before the lock is released, so the next holder sees the restored state
+    private static void lockUntilCompletion(Lock lock, List<Runnable> rollbacks) {
+        lock.lock();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_ROLLED_BACK) {
+                        rollbacks.forEach(Runnable::run);
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+        });
+    }
+
+    private static class PendingDelta {
+        private final LongAdder adder = new LongAdder();
+        // Only written under flushLock
+        private volatile long flushed;
+
+        private long unflushed() {
+            return adder.sum() - flushed;
+        }
+    }
+}
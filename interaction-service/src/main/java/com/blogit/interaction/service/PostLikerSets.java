@@ -0,0 +1,128 @@
+package com.blogit.interaction.service;
+
+import com.blogit.interaction.event.PostLikeChangedEvent;
+import com.blogit.interaction.repository.LikeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-post set of likers as sorted user ordinals, about 4 bytes per like.
+ * Loaded on first use, updated from committed likes and unlikes on this
+ * instance and expired after a TTL, the same way as {@link UserLikedSetCache}.
+ * Posts with more than {@code app.social-proof.max-likers} likes are not
+ * cached.
+ */
+@Component
+@Slf4j
+public class PostLikerSets {
+
+    private final LikeRepository likeRepository;
+    private final UserOrdinals userOrdinals;
+    private final int maxLikers;
+    private final int maxPosts;
+    private final long ttlMs;
+
+    private final Map<UUID, LikerSet> sets = new ConcurrentHashMap<>();
+
+    public PostLikerSets(LikeRepository likeRepository,
+                         UserOrdinals userOrdinals,
+                         @Value("${app.social-proof.max-likers:200000}") int maxLikers,
+                         @Value("${app.social-proof.max-posts:20000}") int maxPosts,
+                         @Value("${app.social-proof.ttl-ms:60000}") long ttlMs) {
+        this.likeRepository = likeRepository;
+        this.userOrdinals = userOrdinals;
+        this.maxLikers = maxLikers;
+        this.maxPosts = maxPosts;
+        this.ttlMs = ttlMs;
+    }
+
+    /**
+     * Returns the post's likers as sorted ordinals, loading them if needed, or
+     * {@code null} when the post has too many likes to cache.
+     */
+    public int[] get(UUID postId) {
+        long now = System.currentTimeMillis();
+        LikerSet current = sets.get(postId);
+        if (current != null && (current.isLoaded() || current.oversized) && now - current.loadedAt < ttlMs) {
+            return current.oversized ? null : current.likers;
+        }
+
+        List<UUID> userIds = likeRepository.findUserIdsByPostId(postId, PageRequest.of(0, maxLikers + 1));
+        if (userIds.size() > maxLikers) {
+            sets.put(postId, LikerSet.oversized(now));
+            return null;
+        }
+        int[] likers = new int[userIds.size()];
+        for (int i = 0; i < likers.length; i++) {
+            likers[i] = userOrdinals.ordinalOf(userIds.get(i));
+        }
+        Arrays.sort(likers);
+        LikerSet loaded = new LikerSet(likers, now, false);
+
+        // A like that committed while we were loading may be missing; keep the marker and reload next time
+        sets.compute(postId, (id, existing) ->
+                existing != null && !existing.isLoaded() && !existing.oversized && existing.loadedAt >= now ? existing : loaded);
+        return likers;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLikeChanged(PostLikeChangedEvent event) {
+        long now = System.currentTimeMillis();
+        sets.compute(event.postId(), (id, existing) -> {
+            if (existing != null && existing.oversized) {
+                return existing;
+            }
+            if (existing == null || !existing.isLoaded() || now - existing.loadedAt >= ttlMs) {
+                return LikerSet.staleMarker(now);
+            }
+            int ordinal = userOrdinals.ordinalOf(event.userId());
+            int[] updated = event.liked()
+                    ? SortedIntSets.with(existing.likers, ordinal)
+                    : SortedIntSets.without(existing.likers, ordinal);
+            return updated.length > maxLikers ? LikerSet.oversized(existing.loadedAt) : new LikerSet(updated, existing.loadedAt, false);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.social-proof.ttl-ms:60000}")
+    public void evictExpired() {
+        long cutoff = System.currentTimeMillis() - ttlMs;
+        sets.values().removeIf(set -> set.loadedAt < cutoff);
+
+        int excess = sets.size() - maxPosts;
+        if (excess > 0) {
+            sets.entrySet().stream()
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().loadedAt))
+                    .limit(excess)
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(sets::remove);
+        }
+    }
+
+    private record LikerSet(int[] likers, long loadedAt, boolean oversized) {
+
+        private static LikerSet staleMarker(long writtenAt) {
+            return new LikerSet(null, writtenAt, false);
+        }
+
+        private static LikerSet oversized(long loadedAt) {
+            return new LikerSet(null, loadedAt, true);
+        }
+
+        private boolean isLoaded() {
+            return likers != null;
+        }
+    }
+}
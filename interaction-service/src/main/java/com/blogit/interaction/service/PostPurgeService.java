@@ -0,0 +1,188 @@
+package com.blogit.interaction.service;
+
+import com.blogit.interaction.entity.PostPurge;
+import com.blogit.interaction.repository.PostPurgeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Deletes the likes, reactions and comment likes of deleted posts in the background.
+ * Each chunk is a keyset-bounded delete of at most {@code app.purge.chunk-size}
+ * rows in its own transaction, together with the purge's progress, and
+ * chunks are paced so a large purge never monopolises the database.
+ */
+@Service
+@Slf4j
+public class PostPurgeService {
+
+    private static final String DELETE_LIKES_SQL =
+            "WITH chunk AS (" +
+            "  SELECT user_id FROM likes WHERE post_id = ?%s ORDER BY user_id LIMIT ?), " +
+            "deleted AS (" +
+            "  DELETE FROM likes l USING chunk WHERE l.post_id = ? AND l.user_id = chunk.user_id RETURNING 1) " +
+            "SELECT (SELECT count(*) FROM deleted) AS deleted, " +
+            "(SELECT user_id FROM chunk ORDER BY user_id DESC LIMIT 1) AS last_user_id";
+
+    private static final String DELETE_REACTIONS_SQL =
+            "WITH chunk AS (" +
+            "  SELECT user_id FROM post_reactions WHERE post_id = ?%s ORDER BY user_id LIMIT ?), " +
+            "deleted AS (" +
+            "  DELETE FROM post_reactions r USING chunk WHERE r.post_id = ? AND r.user_id = chunk.user_id RETURNING 1) " +
+            "SELECT (SELECT count(*) FROM deleted) AS deleted, " +
+            "(SELECT user_id FROM chunk ORDER BY user_id DESC LIMIT 1) AS last_user_id";
+
+    private static final String DELETE_COMMENT_LIKES_SQL =
+            "WITH chunk AS (" +
+            "  SELECT cl.id FROM comment_likes cl JOIN comments c ON c.id = cl.comment_id" +
+            "  WHERE c.post_id = ?%s ORDER BY cl.id LIMIT ?), " +
+            "deleted AS (" +
+            "  DELETE FROM comment_likes cl USING chunk WHERE cl.id = chunk.id RETURNING 1) " +
+            "SELECT (SELECT count(*) FROM deleted) AS deleted, " +
+            "(SELECT id FROM chunk ORDER BY id DESC LIMIT 1) AS last_id";
+
+    private final PostPurgeRepository postPurgeRepository;
+    private final PostLikeCounterService postLikeCounterService;
+    private final ReactionCounterService reactionCounterService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final long pauseMs;
+
+    public PostPurgeService(PostPurgeRepository postPurgeRepository,
+                            PostLikeCounterService postLikeCounterService,
+                            ReactionCounterService reactionCounterService,
+                            JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${app.purge.chunk-size:1000}") int chunkSize,
+                            @Value("${app.purge.max-chunks-per-run:20}") int maxChunksPerRun,
+                            @Value("${app.purge.pause-ms:50}") long pauseMs) {
+        this.postPurgeRepository = postPurgeRepository;
+        this.postLikeCounterService = postLikeCounterService;
+        this.reactionCounterService = reactionCounterService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.pauseMs = pauseMs;
+    }
+
+    @Transactional
+    public void enqueue(UUID postId) {
+        postPurgeRepository.enqueue(postId);
+        log.info("Queued interaction purge for post {}", postId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.purge.interval-ms:1000}")
+    public void purge() {
+        for (int i = 0; i < maxChunksPerRun; i++) {
+            Boolean worked = transactionTemplate.execute(status -> purgeChunk());
+            if (!Boolean.TRUE.equals(worked)) {
+                return;
+            }
+            try {
+                Thread.sleep(pauseMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private boolean purgeChunk() {
+        PostPurge purge = postPurgeRepository.lockNextPending().orElse(null);
+        if (purge == null) {
+            return false;
+        }
+
+        switch (purge.getPhase()) {
+            case LIKES -> purgeLikes(purge);
+            case REACTIONS -> purgeReactions(purge);
+            case COMMENT_LIKES -> purgeCommentLikes(purge);
+            case DONE -> purge.setCompletedAt(LocalDateTime.now());
+        }
+        return true;
+    }
+
+    private void purgeLikes(PostPurge purge) {
+        List<Object> args = new ArrayList<>(List.of(purge.getPostId()));
+        String cursorFilter = "";
+        if (purge.getCursorUserId() != null) {
+            cursorFilter = " AND user_id > ?";
+            args.add(purge.getCursorUserId());
+        }
+        args.add(chunkSize);
+        args.add(purge.getPostId());
+
+        jdbcTemplate.query(String.format(DELETE_LIKES_SQL, cursorFilter), rs -> {
+            long deleted = rs.getLong("deleted");
+            purge.setDeletedLikes(purge.getDeletedLikes() + deleted);
+            purge.setCursorUserId(rs.getObject("last_user_id", UUID.class));
+            if (deleted < chunkSize) {
+                purge.setPhase(PostPurge.Phase.REACTIONS);
+                purge.setCursorUserId(null);
+            }
+        }, args.toArray());
+    }
+
+    private void purgeReactions(PostPurge purge) {
+        List<Object> args = new ArrayList<>(List.of(purge.getPostId()));
+        String cursorFilter = "";
+        if (purge.getCursorUserId() != null) {
+            cursorFilter = " AND user_id > ?";
+            args.add(purge.getCursorUserId());
+        }
+        args.add(chunkSize);
+        args.add(purge.getPostId());
+
+        jdbcTemplate.query(String.format(DELETE_REACTIONS_SQL, cursorFilter), rs -> {
+            long deleted = rs.getLong("deleted");
+            purge.setDeletedReactions(purge.getDeletedReactions() + deleted);
+            purge.setCursorUserId(rs.getObject("last_user_id", UUID.class));
+            if (deleted < chunkSize) {
+                purge.setPhase(PostPurge.Phase.COMMENT_LIKES);
+                purge.setCursorUserId(null);
+            }
+        }, args.toArray());
+    }
+
+    private void purgeCommentLikes(PostPurge purge) {
+        List<Object> args = new ArrayList<>(List.of(purge.getPostId()));
+        String cursorFilter = "";
+        if (purge.getCursorCommentLikeId() != null) {
+            cursorFilter = " AND cl.id > ?";
+            args.add(purge.getCursorCommentLikeId());
+        }
+        args.add(chunkSize);
+
+        jdbcTemplate.query(String.format(DELETE_COMMENT_LIKES_SQL, cursorFilter), rs -> {
+            long deleted = rs.getLong("deleted");
+            purge.setDeletedCommentLikes(purge.getDeletedCommentLikes() + deleted);
+            purge.setCursorCommentLikeId(rs.getObject("last_id", UUID.class));
+            if (deleted < chunkSize) {
+                complete(purge);
+            }
+        }, args.toArray());
+    }
+
+    private void complete(PostPurge purge) {
+        purge.setPhase(PostPurge.Phase.DONE);
+        purge.setCursorCommentLikeId(null);
+        purge.setCursorUserId(null);
+        purge.setCompletedAt(LocalDateTime.now());
+        postLikeCounterService.deleteCounts(purge.getPostId());
+        reactionCounterService.deleteCounts(purge.getPostId());
+        log.info("Purged interactions for post {}: {} likes, {} reactions, {} comment likes",
+                purge.getPostId(), purge.getDeletedLikes(), purge.getDeletedReactions(), purge.getDeletedCommentLikes());
+    }
+}
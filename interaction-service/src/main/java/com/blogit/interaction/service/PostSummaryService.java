@@ -0,0 +1,58 @@
+package com.blogit.interaction.service;
+
+import com.blogit.interaction.dto.CommentDto;
+import com.blogit.interaction.dto.LikeStatusDto;
+import com.blogit.interaction.dto.PostInteractionSummaryDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Hydrates a page of posts with their interaction data in a fixed number of
+ * queries, independent of how many posts are requested: one for the like
+ * counters, one for comment counts, one for the top comments and at most one
+ * for the caller's likes.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PostSummaryService {
+
+    private final LikeService likeService;
+    private final CommentService commentService;
+
+    @Value("${app.summary.preview-length:200}")
+    private int previewLength;
+
+    public List<PostInteractionSummaryDto> summarize(List<UUID> requestedPostIds, UUID userId) {
+        List<UUID> postIds = new ArrayList<>(new LinkedHashSet<>(requestedPostIds));
+        log.debug("Summarizing interactions for {} posts, user {}", postIds.size(), userId);
+
+        Map<UUID, Long> likeCounts = likeService.getPostLikeCounts(postIds);
+        Map<UUID, Long> commentCounts = commentService.countActiveComments(postIds);
+        Map<UUID, CommentDto> topComments = commentService.getTopCommentPreviews(postIds, previewLength);
+        Map<UUID, LikeStatusDto> likeStatuses = userId != null
+                ? likeService.bulkCheckUserLikeStatus(postIds, userId, false)
+                : Map.of();
+
+        List<PostInteractionSummaryDto> summaries = new ArrayList<>(postIds.size());
+        for (UUID postId : postIds) {
+            LikeStatusDto likeStatus = likeStatuses.get(postId);
+            summaries.add(PostInteractionSummaryDto.builder()
+                    .postId(postId)
+                    .likeCount(likeCounts.getOrDefault(postId, 0L))
+                    .commentCount(commentCounts.getOrDefault(postId, 0L))
+                    .topComment(topComments.get(postId))
+                    .isLiked(likeStatus != null ? likeStatus.getIsLiked() : null)
+                    .build());
+        }
+        return summaries;
+    }
+}
@@ -0,0 +1,255 @@
+package com.blogit.interaction.service;
+
+import com.blogit.interaction.entity.Reaction;
+import com.blogit.interaction.event.PostReactionChangedEvent;
+import com.blogit.interaction.repository.ReactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Maintains per-post reaction counts in {@code post_reaction_counts}, the
+ * vector counterpart of {@link PostLikeCounterService}: committed changes are
+ * accumulated in memory per reaction code and flushed as one batch of slot
+ * upserts that add the delta vector element-wise.
+ */
+@Service
+@Slf4j
+public class ReactionCounterService {
+
+    // Element-wise add; COALESCE covers vectors written before a reaction kind was added
+    private static final String UPSERT_SQL =
+            "INSERT INTO post_reaction_counts (post_id, slot, counts) VALUES (?, ?, CAST(? AS BIGINT[])) " +
+            "ON CONFLICT (post_id, slot) DO UPDATE SET counts = (" +
+            "  SELECT array_agg(COALESCE(a, 0) + COALESCE(b, 0) ORDER BY i) " +
+            "  FROM unnest(post_reaction_counts.counts, EXCLUDED.counts) WITH ORDINALITY AS t(a, b, i))";
+
+    private static final String SUM_SQL =
+            "SELECT u.i - 1 AS code, SUM(u.v) AS total " +
+            "FROM post_reaction_counts c, unnest(c.counts) WITH ORDINALITY AS u(v, i) " +
+            "WHERE c.post_id = ? GROUP BY u.i";
+
+    private static final String DELETE_SQL = "DELETE FROM post_reaction_counts WHERE post_id = ?";
+
+    // Serializes reconciles of one post across instances; released when the transaction ends
+    private static final String LOCK_SQL =
+            "SELECT pg_advisory_xact_lock(hashtextextended('post_reaction_counts:' || CAST(? AS TEXT), 0))";
+
+    private static final String OVERWRITE_SQL =
+            "INSERT INTO post_reaction_counts (post_id, slot, counts) VALUES (?, ?, CAST(? AS BIGINT[])) " +
+            "ON CONFLICT (post_id, slot) DO UPDATE SET counts = EXCLUDED.counts";
+
+    private final ReactionRepository reactionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int slots;
+
+    private final Map<UUID, PendingVector> pending = new ConcurrentHashMap<>();
+    private final ReadWriteLock pendingLock = new ReentrantReadWriteLock();
+    // Held by a flush or a reconcile until its transaction completes, as in PostLikeCounterService
+    private final Lock flushLock = new ReentrantLock();
+
+    public ReactionCounterService(ReactionRepository reactionRepository,
+                                  JdbcTemplate jdbcTemplate,
+                                  @Value("${app.like-counts.slots:8}") int slots) {
+        this.reactionRepository = reactionRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.slots = slots;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReactionChanged(PostReactionChangedEvent event) {
+        pendingLock.readLock().lock();
+        try {
+            PendingVector vector = pending.computeIfAbsent(event.postId(), id -> new PendingVector());
+            if (event.previousCode() != null) {
+                vector.adders[event.previousCode()].decrement();
+            }
+            if (event.currentCode() != null) {
+                vector.adders[event.currentCode()].increment();
+            }
+        } finally {
+            pendingLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Count per reaction kind, with every kind present. Counter rows are created
+     * by every flush, so a post without rows has no reactions.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Long> getCounts(UUID postId) {
+        long[] counts = new long[Reaction.Type.count()];
+        jdbcTemplate.query(SUM_SQL, rs -> {
+            int code = rs.getInt("code");
+            if (code < counts.length) {
+                counts[code] = rs.getLong("total");
+            }
+        }, postId);
+
+        PendingVector vector = pending.get(postId);
+        if (vector != null) {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += vector.unflushed(i);
+            }
+        }
+
+        Map<String, Long> byType = new LinkedHashMap<>();
+        for (Reaction.Type type : Reaction.Type.values()) {
+            byType.put(type.name(), counts[type.code()]);
+        }
+        return byType;
+    }
+
+    /**
+     * Recomputes a post's vector from {@code post_reactions} and collapses it
+     * into a single slot. Same caveat as {@link PostLikeCounterService#reconcile}:
+     * only exact while the post is quiet. Concurrent reconciles are serialized
+     * the same way and overwrite the slot.
+     */
+    @Transactional
+    public void reconcile(UUID postId) {
+        jdbcTemplate.queryForList(LOCK_SQL, postId);
+        List<Runnable> rollbacks = new ArrayList<>();
+        lockUntilCompletion(flushLock, rollbacks);
+
+        long[] counts = new long[Reaction.Type.count()];
+        PendingVector vector = pending.get(postId);
+        if (vector != null) {
+            long[] previous = vector.flushed.clone();
+            for (int i = 0; i < counts.length; i++) {
+                vector.flushed[i] = vector.adders[i].sum();
+            }
+            rollbacks.add(() -> System.arraycopy(previous, 0, vector.flushed, 0, previous.length));
+        }
+
+        for (Object[] row : reactionRepository.countByPostIdGroupByCode(postId)) {
+            int code = ((Number) row[0]).intValue();
+            if (code < counts.length) {
+                counts[code] = ((Number) row[1]).longValue();
+            }
+        }
+        jdbcTemplate.update(DELETE_SQL, postId);
+        jdbcTemplate.update(OVERWRITE_SQL, postId, 0, toArrayLiteral(counts));
+        log.info("Reconciled reaction counts for post {}", postId);
+    }
+
+    @Transactional
+    public void deleteCounts(UUID postId) {
+        jdbcTemplate.update(DELETE_SQL, postId);
+        pending.remove(postId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.like-counts.flush-interval-ms:250}")
+    @Transactional
+    public void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        List<UUID> idle = new ArrayList<>();
+        List<Runnable> rollbacks = new ArrayList<>();
+        lockUntilCompletion(flushLock, rollbacks);
+
+        pending.forEach((postId, vector) -> {
+            long[] sums = new long[vector.adders.length];
+            long[] deltas = new long[vector.adders.length];
+            boolean changed = false;
+            for (int i = 0; i < sums.length; i++) {
+                sums[i] = vector.adders[i].sum();
+                deltas[i] = sums[i] - vector.flushed[i];
+                changed |= deltas[i] != 0;
+            }
+            if (!changed) {
+                idle.add(postId);
+                return;
+            }
+            long[] previous = vector.flushed.clone();
+            System.arraycopy(sums, 0, vector.flushed, 0, sums.length);
+            rollbacks.add(() -> System.arraycopy(previous, 0, vector.flushed, 0, previous.length));
+            batch.add(new Object[]{postId, ThreadLocalRandom.current().nextInt(slots), toArrayLiteral(deltas)});
+        });
+
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+            log.debug("Flushed reaction count deltas for {} posts", batch.size());
+        }
+
+        if (!idle.isEmpty()) {
+            pendingLock.writeLock().lock();
+            try {
+                idle.forEach(postId -> pending.computeIfPresent(postId,
+                        (id, vector) -> vector.isIdle() ? null : vector));
+            } finally {
+                pendingLock.writeLock().unlock();
+            }
+        }
+    }
+
+    // Rollbacks restore the flushed marks before the lock is released
+    private static void lockUntilCompletion(Lock lock, List<Runnable> rollbacks) {
+        lock.lock();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_ROLLED_BACK) {
+                        rollbacks.forEach(Runnable::run);
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+        });
+    }
+
+    private static String toArrayLiteral(long[] values) {
+        StringJoiner literal = new StringJoiner(",", "{", "}");
+        for (long value : values) {
+            literal.add(Long.toString(value));
+        }
+        return literal.toString();
+    }
+
+    private static class PendingVector {
+        private final LongAdder[] adders = new LongAdder[Reaction.Type.count()];
+        // Only written under flushLock
+        private final long[] flushed = new long[Reaction.Type.count()];
+
+        private PendingVector() {
+            for (int i = 0; i < adders.length; i++) {
+                adders[i] = new LongAdder();
+            }
+        }
+
+        private long unflushed(int code) {
+            return adders[code].sum() - flushed[code];
+        }
+
+        private boolean isIdle() {
+            for (int i = 0; i < adders.length; i++) {
+                if (unflushed(i) != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.blogit.interaction.service;
+
+import com.blogit.interaction.entity.Reaction;
+import com.blogit.interaction.event.PostReactionChangedEvent;
+import com.blogit.interaction.repository.ReactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Reactions other than the plain like, which keeps its own table and
+ * counters. Setting or switching a reaction is a single upsert that also
+ * reports the code it replaced, so the counter vector can be adjusted without
+ * reading the row first.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReactionService {
+
+    // previous_code comes from the statement snapshot; no row is returned when the reaction is unchanged
+    private static final String UPSERT_SQL =
+            "WITH previous AS (SELECT reaction_code FROM post_reactions WHERE post_id = ? AND user_id = ?) " +
+            "INSERT INTO post_reactions (id, post_id, user_id, reaction_code, created_at, updated_at) " +
+            "VALUES (gen_random_uuid(), ?, ?, ?, now(), now()) " +
+            "ON CONFLICT (post_id, user_id) DO UPDATE SET reaction_code = EXCLUDED.reaction_code, updated_at = now() " +
+            "WHERE post_reactions.reaction_code <> EXCLUDED.reaction_code " +
+            "RETURNING (SELECT reaction_code FROM previous) AS previous_code, (xmax = 0) AS inserted";
+
+    private final ReactionRepository reactionRepository;
+    private final ReactionCounterService reactionCounterService;
+    private final PostDirectory postDirectory;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Transactional
+    public void setReaction(UUID postId, UUID userId, Reaction.Type type) {
+        log.debug("User {} reacting to post {} with {}", userId, postId, type);
+        postDirectory.requireWritable(postId, userId);
+
+        jdbcTemplate.query(UPSERT_SQL, rs -> {
+            short previous = rs.getShort("previous_code");
+            boolean hadPrevious = !rs.wasNull();
+            if (!rs.getBoolean("inserted") && !hadPrevious) {
+                // Another request created the row after our snapshot; the replaced code is unknown
+                reactionCounterService.reconcile(postId);
+                return;
+            }
+            applicationEventPublisher.publishEvent(new PostReactionChangedEvent(
+                    postId, userId, hadPrevious ? previous : null, type.code()));
+        }, postId, userId, postId, userId, type.code());
+    }
+
+    @Transactional
+    public void removeReaction(UUID postId, UUID userId) {
+        log.debug("User {} removing reaction from post {}", userId, postId);
+        
+        reactionRepository.deleteReturning(postId, userId).ifPresent(reaction ->
+                applicationEventPublisher.publishEvent(new PostReactionChangedEvent(
+                        postId, userId, reaction.getReactionCode(), null)));
+    }
+
+    public Map<String, Long> getReactionCounts(UUID postId) {
+        return reactionCounterService.getCounts(postId);
+    }
+
+    /**
+     * The caller's reaction per post, for the posts that have one.
+     */
+    public Map<UUID, Reaction.Type> getUserReactions(Collection<UUID> postIds, UUID userId) {
+        Map<UUID, Reaction.Type> reactions = new HashMap<>();
+        for (Reaction reaction : reactionRepository.findByPostIdsAndUserId(postIds, userId)) {
+            reactions.put(reaction.getPostId(), Reaction.Type.fromCode(reaction.getReactionCode()));
+        }
+        return reactions;
+    }
+}
@@ -0,0 +1,200 @@
+package com.blogit.interaction.service;
+
+import com.blogit.interaction.entity.Like;
+import com.blogit.interaction.event.PostLikeChangedEvent;
+import com.blogit.interaction.repository.LikeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-post list of the most recent likers, capped at
+ * {@code app.recent-likers.capacity}, used to serve the first page of a post's
+ * likes without an ORDER BY and count on {@code likes}.
+ *
+ * Lists are loaded on first use, updated in place from committed likes and
+ * unlikes on this instance, and marked stale when another instance broadcasts
+ * a like of the same post, like {@link UserLikedSetCache}. Unlikes shrink a
+ * truncated list, so a page larger than what is left falls back to the
+ * database until the next load.
+ */
+@Component
+@Slf4j
+public class RecentLikersCache {
+
+    private static final String CACHE_NAME = "recent-likers";
+
+    private final LikeRepository likeRepository;
+    private final CacheInvalidationBroadcaster broadcaster;
+    private final int capacity;
+    private final int maxPosts;
+    private final long ttlMs;
+
+    private final Map<UUID, RecentLikers> lists = new ConcurrentHashMap<>();
+
+    public RecentLikersCache(LikeRepository likeRepository,
+                             CacheInvalidationBroadcaster broadcaster,
+                             @Value("${app.recent-likers.capacity:100}") int capacity,
+                             @Value("${app.recent-likers.max-posts:20000}") int maxPosts,
+                             @Value("${app.recent-likers.ttl-ms:60000}") long ttlMs) {
+        this.likeRepository = likeRepository;
+        this.broadcaster = broadcaster;
+        this.capacity = capacity;
+        this.maxPosts = maxPosts;
+        this.ttlMs = ttlMs;
+        broadcaster.register(CACHE_NAME, this::markStale);
+    }
+
+    /**
+     * Returns the newest {@code size} likers of the post, newest first, or
+     * {@code null} when the cached list cannot answer a page that large.
+     */
+    public List<Liker> firstPage(UUID postId, int size) {
+        if (size > capacity) {
+            return null;
+        }
+
+        long now = System.currentTimeMillis();
+        RecentLikers current = lists.get(postId);
+        if (current == null || !current.isLoaded() || now - current.loadedAt >= ttlMs) {
+            current = load(postId, now);
+        }
+        return current.firstPage(size);
+    }
+
+    private RecentLikers load(UUID postId, long now) {
+        List<Like> rows = likeRepository.findRecentByPostId(postId, PageRequest.of(0, capacity + 1));
+        List<Liker> likers = new ArrayList<>(Math.min(rows.size(), capacity));
+        for (int i = 0; i < rows.size() && i < capacity; i++) {
+            Like like = rows.get(i);
+            likers.add(new Liker(like.getId(), like.getUserId(), like.getCreatedAt()));
+        }
+        RecentLikers loaded = new RecentLikers(List.copyOf(likers), rows.size() <= capacity, now);
+
+        // A like that committed while we were loading may be missing from the rows; keep the marker and reload next time
+        lists.compute(postId, (id, existing) ->
+                existing != null && !existing.isLoaded() && existing.loadedAt >= now ? existing : loaded);
+        return loaded;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLikeChanged(PostLikeChangedEvent event) {
+        long now = System.currentTimeMillis();
+        lists.compute(event.postId(), (id, existing) -> {
+            if (existing == null || !existing.isLoaded() || now - existing.loadedAt >= ttlMs) {
+                return RecentLikers.staleMarker(now);
+            }
+            return event.liked()
+                    ? existing.with(new Liker(event.likeId(), event.userId(), event.createdAt()), capacity)
+                    : existing.without(event.userId());
+        });
+        broadcaster.invalidate(CACHE_NAME, event.postId());
+    }
+
+    // A marker rather than a removal, so a load already in flight cannot reinstall the old list
+    public void evict(UUID postId) {
+        markStale(postId);
+    }
+
+    private void markStale(UUID postId) {
+        lists.put(postId, RecentLikers.staleMarker(System.currentTimeMillis()));
+    }
+
+    @Scheduled(fixedDelayString = "${app.recent-likers.ttl-ms:60000}")
+    public void evictExpired() {
+        long cutoff = System.currentTimeMillis() - ttlMs;
+        lists.values().removeIf(list -> list.loadedAt < cutoff);
+
+        int excess = lists.size() - maxPosts;
+        if (excess > 0) {
+            lists.entrySet().stream()
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().loadedAt))
+                    .limit(excess)
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(lists::remove);
+        }
+    }
+
+    public record Liker(UUID likeId, UUID userId, LocalDateTime likedAt) {
+    }
+
+    private static final class RecentLikers {
+
+        private static final Comparator<Liker> NEWEST_FIRST =
+                Comparator.comparing(Liker::likedAt, Comparator.nullsLast(Comparator.reverseOrder()));
+
+        // Newest first; immutable, replaced on every change
+        private final List<Liker> likers;
+        // True when the list holds every like of the post, not just the newest ones
+        private final boolean complete;
+        private final long loadedAt;
+
+        private RecentLikers(List<Liker> likers, boolean complete, long loadedAt) {
+            this.likers = likers;
+            this.complete = complete;
+            this.loadedAt = loadedAt;
+        }
+
+        private static RecentLikers staleMarker(long writtenAt) {
+            return new RecentLikers(null, false, writtenAt);
+        }
+
+        private boolean isLoaded() {
+            return likers != null;
+        }
+
+        private List<Liker> firstPage(int size) {
+            if (likers.size() >= size) {
+                return likers.subList(0, size);
+            }
+            return complete ? likers : null;
+        }
+
+        private RecentLikers with(Liker liker, int capacity) {
+            for (Liker existing : likers) {
+                if (existing.userId().equals(liker.userId())) {
+                    return this;
+                }
+            }
+
+            List<Liker> updated = new ArrayList<>(likers.size() + 1);
+            updated.addAll(likers);
+            updated.add(liker);
+            updated.sort(NEWEST_FIRST);
+            if (!complete && updated.get(updated.size() - 1) == liker) {
+                // Older than everything we hold, so it may not belong to the newest likes
+                return this;
+            }
+
+            boolean stillComplete = complete;
+            if (updated.size() > capacity) {
+                updated.remove(updated.size() - 1);
+                stillComplete = false;
+            }
+            return new RecentLikers(List.copyOf(updated), stillComplete, loadedAt);
+        }
+
+        private RecentLikers without(UUID userId) {
+            List<Liker> updated = new ArrayList<>(likers.size());
+            for (Liker existing : likers) {
+                if (!existing.userId().equals(userId)) {
+                    updated.add(existing);
+                }
+            }
+            return updated.size() == likers.size() ? this : new RecentLikers(List.copyOf(updated), complete, loadedAt);
+        }
+    }
+}
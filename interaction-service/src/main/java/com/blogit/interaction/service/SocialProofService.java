@@ -0,0 +1,96 @@
+package com.blogit.interaction.service;
+
+import com.blogit.interaction.dto.SocialProofDto;
+import com.blogit.interaction.dto.UserAuthorDto;
+import com.blogit.interaction.repository.LikeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * "Liked by people you follow" for a page of posts, answered by intersecting
+ * each post's liker set with the caller's followee set in memory. Posts with
+ * too many likers to cache fall back to one semi-join query each.
+ */
+@Service
+@Slf4j
+public class SocialProofService {
+
+    private final PostLikerSets postLikerSets;
+    private final FolloweeSets followeeSets;
+    private final UserOrdinals userOrdinals;
+    private final UserDirectory userDirectory;
+    private final LikeRepository likeRepository;
+    private final int sampleSize;
+
+    public SocialProofService(PostLikerSets postLikerSets,
+                              FolloweeSets followeeSets,
+                              UserOrdinals userOrdinals,
+                              UserDirectory userDirectory,
+                              LikeRepository likeRepository,
+                              @Value("${app.social-proof.sample-size:3}") int sampleSize) {
+        this.postLikerSets = postLikerSets;
+        this.followeeSets = followeeSets;
+        this.userOrdinals = userOrdinals;
+        this.userDirectory = userDirectory;
+        this.likeRepository = likeRepository;
+        this.sampleSize = sampleSize;
+    }
+
+    public List<SocialProofDto> getSocialProof(List<UUID> requestedPostIds, UUID userId) {
+        List<UUID> postIds = new ArrayList<>(new LinkedHashSet<>(requestedPostIds));
+        int[] followees = followeeSets.getFollowees(userId);
+        log.debug("Computing social proof for {} posts against {} followees of user {}", postIds.size(), followees.length, userId);
+
+        List<SocialProofDto> results = new ArrayList<>(postIds.size());
+        for (UUID postId : postIds) {
+            if (followees.length == 0) {
+                results.add(toDto(postId, 0, List.of()));
+                continue;
+            }
+
+            int[] likers = postLikerSets.get(postId);
+            if (likers != null) {
+                int[] sample = new int[sampleSize];
+                int count = SortedIntSets.intersect(followees, likers, sample);
+                List<UUID> sampled = new ArrayList<>();
+                for (int i = 0; i < Math.min(count, sampleSize); i++) {
+                    sampled.add(userOrdinals.userAt(sample[i]));
+                }
+                results.add(toDto(postId, count, sampled));
+            } else {
+                List<UUID> followeeIds = new ArrayList<>(followees.length);
+                for (int ordinal : followees) {
+                    followeeIds.add(userOrdinals.userAt(ordinal));
+                }
+                List<UUID> likedBy = likeRepository.findLikersAmong(postId, followeeIds);
+                results.add(toDto(postId, likedBy.size(), likedBy.subList(0, Math.min(likedBy.size(), sampleSize))));
+            }
+        }
+        return results;
+    }
+
+    private SocialProofDto toDto(UUID postId, int count, List<UUID> sampled) {
+        List<UserAuthorDto> users = new ArrayList<>(sampled.size());
+        for (UUID likerId : sampled) {
+            users.add(userDirectory.find(likerId)
+                    .map(user -> UserAuthorDto.builder()
+                            .id(likerId)
+                            .username(user.username())
+                            .fullName(user.fullName())
+                            .profileImage(user.profileImage())
+                            .build())
+                    .orElse(UserAuthorDto.builder().id(likerId).build()));
+        }
+        return SocialProofDto.builder()
+                .postId(postId)
+                .followeeLikeCount(count)
+                .followeeLikers(users)
+                .build();
+    }
+}
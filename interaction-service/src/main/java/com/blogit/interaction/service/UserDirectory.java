@@ -0,0 +1,83 @@
+package com.blogit.interaction.service;
+
+import com.blogit.interaction.entity.UserDirectoryEntry;
+import com.blogit.interaction.repository.UserDirectoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Replica of the user profiles interaction-service needs, built from
+ * user-events and persisted in {@code user_directory}. Active usernames are
+ * kept in a {@link MentionMatcher} so comment mentions resolve without any
+ * database lookups.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserDirectory {
+
+    private final UserDirectoryRepository userDirectoryRepository;
+    private final Map<UUID, UserInfo> users = new ConcurrentHashMap<>();
+    private final MentionMatcher mentionMatcher = new MentionMatcher();
+
+    public record UserInfo(String username, String fullName, String profileImage, boolean active) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (UserDirectoryEntry entry : userDirectoryRepository.findAll()) {
+            apply(entry.getUserId(), new UserInfo(entry.getUsername(), entry.getFullName(),
+                    entry.getProfileImage(), entry.getIsActive()));
+        }
+        log.info("Loaded {} users into the user directory", users.size());
+    }
+
+    @Transactional
+    public void upsert(UUID userId, String username, String fullName, String profileImage, boolean active) {
+        userDirectoryRepository.save(UserDirectoryEntry.builder()
+                .userId(userId)
+                .username(username)
+                .fullName(fullName)
+                .profileImage(profileImage)
+                .isActive(active)
+                .build());
+        apply(userId, new UserInfo(username, fullName, profileImage, active));
+    }
+
+    public Optional<UserInfo> find(UUID userId) {
+        return Optional.ofNullable(users.get(userId));
+    }
+
+    /**
+     * Resolves the distinct active users mentioned in the text, in order of
+     * first mention, leaving out the author.
+     */
+    public List<UUID> extractMentions(String text, UUID authorId) {
+        Set<UUID> mentioned = mentionMatcher.match(text);
+        mentioned.remove(authorId);
+        return new ArrayList<>(mentioned);
+    }
+
+    // Only the trie edits are serialized; the map itself is concurrent
+    private synchronized void apply(UUID userId, UserInfo info) {
+        UserInfo previous = users.put(userId, info);
+        if (previous != null && previous.active()) {
+            mentionMatcher.remove(previous.username(), userId);
+        }
+        if (info.active()) {
+            mentionMatcher.add(info.username(), userId);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.blogit.interaction.service;
+
+import com.blogit.interaction.event.PostLikeChangedEvent;
+import com.blogit.interaction.repository.LikeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-user set of liked post IDs, used to answer bulk like checks from memory.
+ * Each set is stored as sorted parallel {@code long[]} arrays (UUID halves and
+ * like time), about 24 bytes per like, and looked up by binary search.
+ *
+ * Sets are loaded on first use, updated in place from committed likes and
+ * unlikes on this instance, and dropped when another instance broadcasts a
+ * write by the same user through {@link CacheInvalidationBroadcaster}; the TTL
+ * only bounds staleness when a broadcast is lost. Users with more likes than
+ * {@code app.liked-set.max-likes} are not cached and always hit the database.
+ */
+@Component
+@Slf4j
+public class UserLikedSetCache {
+
+    private static final String CACHE_NAME = "liked-sets";
+
+    private final LikeRepository likeRepository;
+    private final CacheInvalidationBroadcaster broadcaster;
+    private final int maxLikes;
+    private final int maxUsers;
+    private final long ttlMs;
+
+    private final Map<UUID, LikedSet> sets = new ConcurrentHashMap<>();
+
+    public UserLikedSetCache(LikeRepository likeRepository,
+                             CacheInvalidationBroadcaster broadcaster,
+                             @Value("${app.liked-set.max-likes:2000}") int maxLikes,
+                             @Value("${app.liked-set.max-users:50000}") int maxUsers,
+                             @Value("${app.liked-set.ttl-ms:30000}") long ttlMs) {
+        this.likeRepository = likeRepository;
+        this.broadcaster = broadcaster;
+        this.maxLikes = maxLikes;
+        this.maxUsers = maxUsers;
+        this.ttlMs = ttlMs;
+        broadcaster.register(CACHE_NAME, this::markStale);
+    }
+
+    /**
+     * Returns the user's liked set, loading it if needed, or {@code null} when
+     * the user has too many likes to cache.
+     */
+    public LikedSet get(UUID userId) {
+        long now = System.currentTimeMillis();
+        LikedSet current = sets.get(userId);
+        if (current != null && (current.isLoaded() || current.oversized) && now - current.loadedAt < ttlMs) {
+            return current.oversized ? null : current;
+        }
+
+        List<Object[]> rows = likeRepository.findLikedPostsByUserId(userId, PageRequest.of(0, maxLikes + 1));
+        if (rows.size() > maxLikes) {
+            // Remember that this user is too large so the probe is not repeated on every check
+            sets.put(userId, LikedSet.oversized(now));
+            return null;
+        }
+        LikedSet loaded = LikedSet.of(rows, now);
+
+        // A write that committed while we were loading may be missing from the rows; keep the marker and reload next time
+        sets.compute(userId, (id, existing) ->
+                existing != null && !existing.isLoaded() && existing.loadedAt >= now ? existing : loaded);
+        return loaded;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLikeChanged(PostLikeChangedEvent event) {
+        long now = System.currentTimeMillis();
+        sets.compute(event.userId(), (id, existing) -> {
+            if (existing != null && existing.oversized) {
+                return existing;
+            }
+            if (existing == null || !existing.isLoaded() || now - existing.loadedAt >= ttlMs) {
+                return LikedSet.staleMarker(now);
+            }
+            LikedSet updated = event.liked()
+                    ? existing.with(event.postId(), event.createdAt())
+                    : existing.without(event.postId());
+            return updated.size() > maxLikes ? LikedSet.oversized(existing.loadedAt) : updated;
+        });
+        broadcaster.invalidate(CACHE_NAME, event.userId());
+    }
+
+    // A write by this user committed on another instance; reload on next use, and discard loads already in flight
+    private void markStale(UUID userId) {
+        long now = System.currentTimeMillis();
+        sets.compute(userId, (id, existing) ->
+                existing != null && existing.oversized ? existing : LikedSet.staleMarker(now));
+    }
+
+    @Scheduled(fixedDelayString = "${app.liked-set.ttl-ms:30000}")
+    public void evictExpired() {
+        long cutoff = System.currentTimeMillis() - ttlMs;
+        sets.values().removeIf(set -> set.loadedAt < cutoff);
+
+        int excess = sets.size() - maxUsers;
+        if (excess > 0) {
+            // Drop the oldest loads first
+            sets.entrySet().stream()
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().loadedAt))
+                    .limit(excess)
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(sets::remove);
+        }
+    }
+
+    public static final class LikedSet {
+
+        private final long[] msb;
+        private final long[] lsb;
+        private final long[] likedAt;
+        private final long loadedAt;
+        private final boolean oversized;
+
+        private LikedSet(long[] msb, long[] lsb, long[] likedAt, long loadedAt, boolean oversized) {
+            this.msb = msb;
+            this.lsb = lsb;
+            this.likedAt = likedAt;
+            this.loadedAt = loadedAt;
+            this.oversized = oversized;
+        }
+
+        private LikedSet(long[] msb, long[] lsb, long[] likedAt, long loadedAt) {
+            this(msb, lsb, likedAt, loadedAt, false);
+        }
+
+        private static LikedSet staleMarker(long writtenAt) {
+            return new LikedSet(null, null, null, writtenAt, false);
+        }
+
+        private static LikedSet oversized(long loadedAt) {
+            return new LikedSet(null, null, null, loadedAt, true);
+        }
+
+        private static LikedSet of(List<Object[]> rows, long loadedAt) {
+            Object[][] sorted = rows.toArray(new Object[0][]);
+            // UUID ordering is signed most- then least-significant bits, the same order indexOf searches in
+            Arrays.sort(sorted, Comparator.comparing((Object[] row) -> (UUID) row[0]));
+
+            long[] msb = new long[sorted.length];
+            long[] lsb = new long[sorted.length];
+            long[] likedAt = new long[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                UUID postId = (UUID) sorted[i][0];
+                msb[i] = postId.getMostSignificantBits();
+                lsb[i] = postId.getLeastSignificantBits();
+                likedAt[i] = toEpochMilli((LocalDateTime) sorted[i][1]);
+            }
+            return new LikedSet(msb, lsb, likedAt, loadedAt);
+        }
+
+        private boolean isLoaded() {
+            return msb != null;
+        }
+
+        public int size() {
+            return msb.length;
+        }
+
+        /**
+         * Returns when the post was liked, or {@code null} if it is not in the set.
+         */
+        public LocalDateTime likedAt(UUID postId) {
+            int index = indexOf(postId);
+            return index >= 0 ? LocalDateTime.ofInstant(Instant.ofEpochMilli(likedAt[index]), ZoneOffset.UTC) : null;
+        }
+
+        private LikedSet with(UUID postId, LocalDateTime createdAt) {
+            int index = indexOf(postId);
+            if (index >= 0) {
+                return this;
+            }
+            int insertAt = -index - 1;
+            return new LikedSet(
+                    insert(msb, insertAt, postId.getMostSignificantBits()),
+                    insert(lsb, insertAt, postId.getLeastSignificantBits()),
+                    insert(likedAt, insertAt, toEpochMilli(createdAt)),
+                    loadedAt);
+        }
+
+        private LikedSet without(UUID postId) {
+            int index = indexOf(postId);
+            if (index < 0) {
+                return this;
+            }
+            return new LikedSet(remove(msb, index), remove(lsb, index), remove(likedAt, index), loadedAt);
+        }
+
+        private int indexOf(UUID postId) {
+            long targetMsb = postId.getMostSignificantBits();
+            long targetLsb = postId.getLeastSignificantBits();
+            int low = 0;
+            int high = msb.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int cmp = msb[mid] != targetMsb ? Long.compare(msb[mid], targetMsb) : Long.compare(lsb[mid], targetLsb);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        private static long toEpochMilli(LocalDateTime time) {
+            return time != null ? time.toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+        }
+
+        private static long[] insert(long[] values, int index, long value) {
+            long[] result = new long[values.length + 1];
+            System.arraycopy(values, 0, result, 0, index);
+            result[index] = value;
+            System.arraycopy(values, index, result, index + 1, values.length - index);
+            return result;
+        }
+
+        private static long[] remove(long[] values, int index) {
+            long[] result = new long[values.length - 1];
+            System.arraycopy(values, 0, result, 0, index);
+            System.arraycopy(values, index + 1, result, index, values.length - index - 1);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.blogit.interaction.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Assigns each user ID seen by this instance a dense int so user sets can be
+ * stored as sorted {@code int[]} instead of UUID collections. Ordinals are
+ * local to the process and never persisted.
+ */
+@Component
+public class UserOrdinals {
+
+    private final Map<UUID, Integer> ordinals = new ConcurrentHashMap<>();
+    private volatile UUID[] users = new UUID[1024];
+    private int next;
+
+    public int ordinalOf(UUID userId) {
+        Integer ordinal = ordinals.get(userId);
+        return ordinal != null ? ordinal : assign(userId);
+    }
+
+    public UUID userAt(int ordinal) {
+        UUID[] current = users;
+        return ordinal < current.length ? current[ordinal] : null;
+    }
+
+    private synchronized int assign(UUID userId) {
+        Integer existing = ordinals.get(userId);
+        if (existing != null) {
+            return existing;
+        }
+        int ordinal = next++;
+        if (ordinal >= users.length) {
+            users = Arrays.copyOf(users, users.length * 2);
+        }
+        // The reverse mapping is written before the ordinal is published through the map
+        users[ordinal] = userId;
+        ordinals.put(userId, ordinal);
+        return ordinal;
+    }
+}
@@ -0,0 +1,47 @@
+package com.blogit.interaction.service.consumer;
+
+import com.blogit.common.client.FollowGraphClient;
+import com.blogit.common.client.FollowGraphLoader;
+import com.blogit.interaction.service.FolloweeSets;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Keeps {@link FolloweeSets} in sync with the follow graph through a
+ * {@link FollowGraphLoader}, started once the application is ready.
+ */
+@Component
+public class FollowGraphConsumer {
+
+    private final FollowGraphLoader loader;
+
+    public FollowGraphConsumer(FolloweeSets followeeSets,
+                               @Qualifier("consumerFactory") ConsumerFactory<?, ?> consumerFactory,
+                               RestClient.Builder restClientBuilder,
+                               @Value("${app.user-service.url}") String userServiceUrl,
+                               @Value("${app.internal.token}") String internalToken,
+                               @Value("${app.follow-graph.page-size:5000}") int pageSize,
+                               @Value("${app.follow-graph.replay-overlap-ms:60000}") long replayOverlapMs,
+                               @Value("${app.follow-graph.snapshot-attempts:5}") int snapshotAttempts) {
+        this.loader = new FollowGraphLoader(
+                new FollowGraphClient(restClientBuilder, userServiceUrl, internalToken, pageSize),
+                consumerFactory, replayOverlapMs, snapshotAttempts,
+                followeeSets::follow, followeeSets::unfollow);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        loader.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        loader.close();
+    }
+}
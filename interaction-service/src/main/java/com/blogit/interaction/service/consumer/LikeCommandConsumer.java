@@ -0,0 +1,41 @@
+package com.blogit.interaction.service.consumer;
+
+import com.blogit.interaction.config.LikeCommandKafkaConfig;
+import com.blogit.interaction.event.LikeCommand;
+import com.blogit.interaction.service.LikeBatchWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Drains queued like commands when likes are written behind. Commands are keyed
+ * by post, so every (post, user) pair is applied by one consumer in order.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeCommandConsumer {
+
+    private final LikeBatchWriter likeBatchWriter;
+
+    @KafkaListener(
+        topics = LikeCommandKafkaConfig.TOPIC_LIKE_COMMANDS,
+        groupId = "${spring.application.name}-like-commands",
+        containerFactory = "likeCommandBatchListenerContainerFactory",
+        autoStartup = "${app.likes.write-behind.enabled:false}"
+    )
+    public void handleLikeCommands(List<LikeCommand> commands) {
+        // Records that failed to deserialize arrive as null
+        List<LikeCommand> valid = commands.stream().filter(Objects::nonNull).toList();
+        if (valid.size() < commands.size()) {
+            log.error("Skipping {} unreadable like commands", commands.size() - valid.size());
+        }
+        if (!valid.isEmpty()) {
+            likeBatchWriter.write(valid);
+        }
+    }
+}
@@ -5,13 +5,17 @@ import com.blogit.common.event.post.PostCreatedEvent;
 import com.blogit.common.event.post.PostUpdatedEvent;
 import com.blogit.common.event.post.PostDeletedEvent;
 import com.blogit.common.kafka.KafkaConfig;
+import com.blogit.common.kafka.KeyOrderedBatchProcessor;
 import com.blogit.interaction.service.CommentService;
 import com.blogit.interaction.service.LikeService;
+import com.blogit.interaction.service.PostDirectory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.UUID;
 
 @Slf4j
@@ -21,12 +25,19 @@ public class PostEventConsumer {
 
     private final LikeService likeService;
     private final CommentService commentService;
+    private final PostDirectory postDirectory;
+    private final KeyOrderedBatchProcessor batchProcessor;
 
+    // Events are keyed by post, so each post's events stay in order while different posts run in parallel
     @KafkaListener(
         topics = KafkaConfig.TOPIC_POST_EVENTS,
         groupId = "${spring.application.name}",
-        containerFactory = "kafkaListenerContainerFactory"
+        containerFactory = "batchKafkaListenerContainerFactory"
     )
+    public void handlePostEvents(List<ConsumerRecord<String, DomainEvent<?>>> records) {
+        batchProcessor.process(records, record -> handlePostEvent(record.value()));
+    }
+
     public void handlePostEvent(DomainEvent<?> event) {
         if (event == null || event.getEventType() == null) {
             log.error("Received null event or null event type");
@@ -52,16 +63,19 @@ public class PostEventConsumer {
     private void handlePostCreated(PostCreatedEvent event) {
         var postData = event.getData();
         log.info("Post created: {}", postData.getPostId());
-        // Initialize interaction data if needed
+        postDirectory.upsert(UUID.fromString(postData.getPostId()), UUID.fromString(postData.getUserId()),
+                true, postData.getVisibility());
     }
 
     private void handlePostUpdated(PostUpdatedEvent event) {
         var postData = event.getData();
         log.info("Post updated: {}", postData.getPostId());
+        UUID postId = UUID.fromString(postData.getPostId());
+        postDirectory.upsert(postId, UUID.fromString(postData.getUserId()),
+                postData.isActive(), postData.getVisibility());
         
         if (!postData.isActive()) {
             // If post is deactivated, hide all interactions
-            UUID postId = UUID.fromString(postData.getPostId());
             likeService.cleanupPostLikes(postId);
             commentService.softDeletePostComments(postId);
         }
@@ -73,6 +87,7 @@ public class PostEventConsumer {
         
         // Clean up all interactions for the deleted post
         UUID postId = UUID.fromString(postData.getPostId());
+        postDirectory.upsert(postId, UUID.fromString(postData.getUserId()), false, null);
         likeService.cleanupPostLikes(postId);
         commentService.softDeletePostComments(postId);
     }
@@ -0,0 +1,57 @@
+package com.blogit.interaction.service.consumer;
+
+import com.blogit.common.event.DomainEvent;
+import com.blogit.common.event.user.UserRegisteredEvent;
+import com.blogit.common.event.user.UserUpdatedEvent;
+import com.blogit.common.kafka.KafkaConfig;
+import com.blogit.common.kafka.KeyOrderedBatchProcessor;
+import com.blogit.interaction.service.UserDirectory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserEventConsumer {
+
+    private final UserDirectory userDirectory;
+    private final KeyOrderedBatchProcessor batchProcessor;
+
+    // Profile events are keyed by user, so updates to the same user are applied in order
+    @KafkaListener(
+        topics = KafkaConfig.TOPIC_USER_EVENTS,
+        groupId = "${spring.application.name}-users",
+        containerFactory = "batchKafkaListenerContainerFactory"
+    )
+    public void handleUserEvents(List<ConsumerRecord<String, DomainEvent<?>>> records) {
+        batchProcessor.process(records, record -> handleUserEvent(record.value()));
+    }
+
+    public void handleUserEvent(DomainEvent<?> event) {
+        if (event == null || event.getEventType() == null) {
+            log.error("Received null event or null event type");
+            return;
+        }
+        
+        switch (event.getEventType()) {
+            case UserRegisteredEvent.EVENT_TYPE:
+                var registered = ((UserRegisteredEvent) event).getData();
+                userDirectory.upsert(UUID.fromString(registered.getUserId()), registered.getUsername(),
+                        registered.getFullName(), null, true);
+                break;
+            case UserUpdatedEvent.EVENT_TYPE:
+                var updated = ((UserUpdatedEvent) event).getData();
+                userDirectory.upsert(UUID.fromString(updated.getUserId()), updated.getUsername(),
+                        updated.getFullName(), updated.getProfileImage(), updated.isActive());
+                break;
+            default:
+                log.debug("Ignoring user event type: {}", event.getEventType());
+        }
+    }
+}
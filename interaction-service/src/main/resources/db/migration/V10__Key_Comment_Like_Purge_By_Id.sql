@@ -0,0 +1,3 @@
+-- Comment likes of a purged post are deleted in comment_likes.id order; the purge remembers the last id deleted
+ALTER TABLE post_purge_queue ADD COLUMN IF NOT EXISTS cursor_comment_like_id UUID;
+ALTER TABLE post_purge_queue DROP COLUMN IF EXISTS cursor_comment_id;
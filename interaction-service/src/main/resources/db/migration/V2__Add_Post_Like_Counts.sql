@@ -0,0 +1,11 @@
+-- Slotted like counters: writers add deltas to a random slot, readers sum the slots
+CREATE TABLE IF NOT EXISTS post_like_counts (
+    post_id UUID NOT NULL,
+    slot INTEGER NOT NULL,
+    like_count BIGINT NOT NULL,
+    PRIMARY KEY (post_id, slot)
+);
+
+INSERT INTO post_like_counts (post_id, slot, like_count)
+SELECT post_id, 0, COUNT(*) FROM likes GROUP BY post_id
+ON CONFLICT (post_id, slot) DO NOTHING;
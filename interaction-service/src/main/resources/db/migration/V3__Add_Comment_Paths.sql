@@ -0,0 +1,24 @@
+-- Materialized comment paths: a page of threads and their first replies load in one indexed query
+ALTER TABLE comments ADD COLUMN IF NOT EXISTS root_comment_id UUID;
+ALTER TABLE comments ADD COLUMN IF NOT EXISTS path VARCHAR(1024) COLLATE "C";
+ALTER TABLE comments ADD COLUMN IF NOT EXISTS depth INTEGER NOT NULL DEFAULT 0;
+
+WITH RECURSIVE tree AS (
+    SELECT id, id AS root_id, lpad(to_hex((extract(epoch FROM created_at) * 1000)::bigint), 12, '0') || substr(replace(id::text, '-', ''), 1, 8) AS path, 0 AS depth
+    FROM comments
+    WHERE parent_comment_id IS NULL
+    UNION ALL
+    SELECT c.id, t.root_id, t.path || '.' || lpad(to_hex((extract(epoch FROM c.created_at) * 1000)::bigint), 12, '0') || substr(replace(c.id::text, '-', ''), 1, 8), t.depth + 1
+    FROM comments c
+    JOIN tree t ON c.parent_comment_id = t.id
+)
+UPDATE comments c
+SET root_comment_id = CASE WHEN t.depth = 0 THEN NULL ELSE t.root_id END,
+    path = t.path,
+    depth = t.depth
+FROM tree t
+WHERE c.id = t.id;
+
+ALTER TABLE comments ALTER COLUMN path SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_comments_root_path ON comments(root_comment_id, path);
@@ -0,0 +1,4 @@
+-- like_count and reply_count were never maintained before; recompute them once
+UPDATE comments c
+SET like_count = (SELECT COUNT(*) FROM comment_likes cl WHERE cl.comment_id = c.id),
+    reply_count = (SELECT COUNT(*) FROM comments r WHERE r.parent_comment_id = c.id AND r.is_active = true);
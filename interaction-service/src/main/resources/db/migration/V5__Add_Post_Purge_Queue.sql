@@ -0,0 +1,14 @@
+-- Background purge of likes and comment likes for deleted posts, resumable via the cursor columns
+CREATE TABLE IF NOT EXISTS post_purge_queue (
+    post_id UUID PRIMARY KEY,
+    phase VARCHAR(20) NOT NULL,
+    cursor_comment_id UUID,
+    cursor_user_id UUID,
+    deleted_likes BIGINT NOT NULL DEFAULT 0,
+    deleted_comment_likes BIGINT NOT NULL DEFAULT 0,
+    requested_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    updated_at TIMESTAMP,
+    completed_at TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_post_purge_queue_pending ON post_purge_queue(requested_at) WHERE completed_at IS NULL;
@@ -0,0 +1,8 @@
+-- Local replica of post owner/state, maintained from post-events
+CREATE TABLE IF NOT EXISTS post_directory (
+    post_id UUID PRIMARY KEY,
+    owner_id UUID NOT NULL,
+    is_active BOOLEAN NOT NULL,
+    visibility VARCHAR(20),
+    updated_at TIMESTAMP
+);
@@ -0,0 +1,9 @@
+-- Local replica of user profiles, maintained from user-events
+CREATE TABLE IF NOT EXISTS user_directory (
+    user_id UUID PRIMARY KEY,
+    username VARCHAR(50) NOT NULL,
+    full_name VARCHAR(100),
+    profile_image VARCHAR(255),
+    is_active BOOLEAN NOT NULL,
+    updated_at TIMESTAMP
+);
@@ -0,0 +1,4 @@
+-- Keyset indexes for the merged user activity timeline
+CREATE INDEX IF NOT EXISTS idx_likes_user_created ON likes(user_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_comments_user_created ON comments(user_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_comment_likes_user_created ON comment_likes(user_id, created_at DESC, id DESC);
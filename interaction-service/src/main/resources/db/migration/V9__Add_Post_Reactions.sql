@@ -0,0 +1,20 @@
+-- One reaction per (post, user), stored as a small code
+CREATE TABLE IF NOT EXISTS post_reactions (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    post_id UUID NOT NULL,
+    user_id UUID NOT NULL,
+    reaction_code SMALLINT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    updated_at TIMESTAMP,
+    UNIQUE (post_id, user_id)
+);
+
+-- Slotted counter vectors, counts[code + 1] in SQL terms
+CREATE TABLE IF NOT EXISTS post_reaction_counts (
+    post_id UUID NOT NULL,
+    slot INTEGER NOT NULL,
+    counts BIGINT[] NOT NULL,
+    PRIMARY KEY (post_id, slot)
+);
+
+ALTER TABLE post_purge_queue ADD COLUMN IF NOT EXISTS deleted_reactions BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,89 @@
+package com.blogit.interaction.repository;
+
+import com.blogit.interaction.entity.Comment;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentRepositoryTest extends PostgresRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final UUID postId = UUID.randomUUID();
+
+    private Comment older;
+    private Comment olderFirstReply;
+    private Comment olderNestedReply;
+    private Comment olderSecondReply;
+    private Comment newer;
+    private Comment newerReply;
+
+    @BeforeEach
+    void threads() {
+        older = save(null, "00000000000100000000", NOW.minusHours(2));
+        newer = save(null, "00000000000200000000", NOW.minusHours(1));
+        // Replies are saved out of path order so the query, not the insert order, decides
+        olderSecondReply = save(older, "00000000000400000000", NOW);
+        olderFirstReply = save(older, "00000000000300000000", NOW);
+        olderNestedReply = save(olderFirstReply, "00000000000500000000", NOW);
+        newerReply = save(newer, "00000000000600000000", NOW);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void threadPageListsNewestThreadFirstWithRepliesInPathOrder() {
+        List<Comment> page = commentRepository.findThreadPage(postId, 10, 0, 3, 10);
+
+        assertThat(page).extracting(Comment::getId).containsExactly(
+                newer.getId(), newerReply.getId(),
+                older.getId(), olderFirstReply.getId(), olderNestedReply.getId(), olderSecondReply.getId());
+    }
+
+    @Test
+    void oldestFirstThreadPageKeepsRepliesInPathOrder() {
+        List<Comment> page = commentRepository.findThreadPageOldestFirst(postId, 10, 0, 3, 10);
+
+        assertThat(page).extracting(Comment::getId).containsExactly(
+                older.getId(), olderFirstReply.getId(), olderNestedReply.getId(), olderSecondReply.getId(),
+                newer.getId(), newerReply.getId());
+    }
+
+    @Test
+    void threadPageHonoursLimitDepthAndRepliesPerThread() {
+        List<Comment> page = commentRepository.findThreadPage(postId, 1, 1, 1, 1);
+
+        assertThat(page).extracting(Comment::getId).containsExactly(older.getId(), olderFirstReply.getId());
+    }
+
+    private Comment save(Comment parent, String segment, LocalDateTime createdAt) {
+        Comment comment = Comment.builder()
+                .postId(postId)
+                .userId(UUID.randomUUID())
+                .content("comment " + segment)
+                .parentCommentId(parent != null ? parent.getId() : null)
+                .rootCommentId(parent != null ? parent.getThreadRootId() : null)
+                .path(parent != null ? parent.getPath() + "." + segment : segment)
+                .depth(parent != null ? parent.getDepth() + 1 : 0)
+                .build();
+        comment = commentRepository.saveAndFlush(comment);
+        entityManager.createNativeQuery("UPDATE comments SET created_at = :createdAt WHERE id = :id")
+                .setParameter("createdAt", createdAt)
+                .setParameter("id", comment.getId())
+                .executeUpdate();
+        return comment;
+    }
+}
@@ -0,0 +1,159 @@
+package com.blogit.interaction.service;
+
+import com.blogit.interaction.dto.ActivityDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ActivityServiceTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private final UUID userId = UUID.randomUUID();
+    private final InMemoryActivity database = new InMemoryActivity();
+    private final ActivityService service = new ActivityService(database, 200);
+
+    @Test
+    void pagesThroughEveryActivityOnceNewestFirst() {
+        List<Row> expected = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            expected.add(database.add("likes", T0.minusMinutes(3L * i)));
+            expected.add(database.add("comments", T0.minusMinutes(3L * i + 1)));
+            if (i % 2 == 0) {
+                expected.add(database.add("comment_likes", T0.minusMinutes(3L * i + 2)));
+            }
+        }
+        // Same instant in two sources
+        expected.add(database.add("likes", T0.minusHours(2)));
+        expected.add(database.add("comments", T0.minusHours(2)));
+        expected.sort(Comparator.comparing(Row::createdAt).reversed());
+
+        List<ActivityDto> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            ActivityService.ActivityPage page = service.getUserActivity(userId, cursor, 4);
+            assertThat(page.activities()).hasSizeLessThanOrEqualTo(4);
+            seen.addAll(page.activities());
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null && pages < 20);
+
+        assertThat(cursor).isNull();
+        assertThat(seen).extracting(ActivityDto::getId)
+                .containsExactlyInAnyOrderElementsOf(expected.stream().map(Row::id).toList())
+                .doesNotHaveDuplicates();
+        assertThat(seen).extracting(ActivityDto::getCreatedAt)
+                .isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    void reportsTheSourceOfEachActivity() {
+        Row like = database.add("likes", T0);
+        Row comment = database.add("comments", T0.minusMinutes(1));
+        Row commentLike = database.add("comment_likes", T0.minusMinutes(2));
+
+        ActivityService.ActivityPage page = service.getUserActivity(userId, null, 10);
+
+        assertThat(page.activities()).extracting(ActivityDto::getId, ActivityDto::getType).containsExactly(
+                tuple(like.id(), "POST_LIKE"),
+                tuple(comment.id(), "COMMENT"),
+                tuple(commentLike.id(), "COMMENT_LIKE"));
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void doesNotReadDrainedSourcesAgain() {
+        for (int i = 0; i < 6; i++) {
+            database.add("likes", T0.minusMinutes(i));
+        }
+
+        ActivityService.ActivityPage first = service.getUserActivity(userId, null, 3);
+        database.queries.clear();
+        ActivityService.ActivityPage second = service.getUserActivity(userId, first.nextCursor(), 3);
+
+        assertThat(second.activities()).hasSize(3);
+        assertThat(database.queries).containsOnly("likes");
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        assertThatThrownBy(() -> service.getUserActivity(userId, "not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.getUserActivity(userId, null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private record Row(UUID id, LocalDateTime createdAt) {
+    }
+
+    // Answers the keyset queries of each source from memory: (created_at, id) < cursor, newest first, limited
+    private static final class InMemoryActivity extends JdbcTemplate {
+
+        private static final Comparator<Row> NEWEST_FIRST = Comparator
+                .comparing(Row::createdAt).thenComparing(Row::id).reversed();
+
+        private final Map<String, List<Row>> tables = Map.of(
+                "likes", new ArrayList<>(), "comments", new ArrayList<>(), "comment_likes", new ArrayList<>());
+        private final List<String> queries = new ArrayList<>();
+
+        private Row add(String table, LocalDateTime createdAt) {
+            Row row = new Row(UUID.randomUUID(), createdAt);
+            tables.get(table).add(row);
+            return row;
+        }
+
+        @Override
+        public <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... args) {
+            String table = sql.contains("FROM likes") ? "likes"
+                    : sql.contains("FROM comment_likes") ? "comment_likes" : "comments";
+            queries.add(table);
+
+            // Post likes have no preview length argument
+            int offset = table.equals("likes") ? 0 : 1;
+            LocalDateTime afterAt = ((Timestamp) args[offset + 1]).toLocalDateTime();
+            UUID afterId = (UUID) args[offset + 2];
+            int limit = (Integer) args[offset + 3];
+            Row after = new Row(afterId, afterAt);
+
+            List<T> result = new ArrayList<>();
+            for (Row row : tables.get(table).stream().sorted(NEWEST_FIRST).toList()) {
+                if (result.size() == limit) {
+                    break;
+                }
+                if (NEWEST_FIRST.compare(row, after) > 0) {
+                    result.add(map(rowMapper, row, result.size()));
+                }
+            }
+            return result;
+        }
+
+        private static <T> T map(RowMapper<T> rowMapper, Row row, int rowNum) {
+            try {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getObject("id", UUID.class)).thenReturn(row.id());
+                when(rs.getTimestamp("created_at")).thenReturn(Timestamp.valueOf(row.createdAt()));
+                when(rs.getObject("post_id", UUID.class)).thenReturn(UUID.randomUUID());
+                return rowMapper.mapRow(rs, rowNum);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.blogit.interaction.service;
+
+import com.blogit.interaction.dto.CommentDto;
+import com.blogit.interaction.dto.InteractionCommandDto;
+import com.blogit.interaction.dto.InteractionCommandDto.Type;
+import com.blogit.interaction.dto.InteractionCommandResultDto;
+import com.blogit.interaction.dto.InteractionCommandResultDto.Status;
+import com.blogit.interaction.event.LikeCommand;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BatchInteractionServiceTest {
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID firstPost = UUID.randomUUID();
+    private final UUID secondPost = UUID.randomUUID();
+
+    private final LikeBatchWriter likeBatchWriter = mock(LikeBatchWriter.class);
+    private final CommentService commentService = mock(CommentService.class);
+    private final PostDirectory postDirectory = mock(PostDirectory.class);
+
+    private BatchInteractionService service;
+
+    @BeforeEach
+    void setUp() {
+        when(postDirectory.isWritable(any(), eq(userId))).thenReturn(true);
+        when(likeBatchWriter.apply(anyCollection())).thenAnswer(invocation -> {
+            Collection<LikeCommand> commands = invocation.getArgument(0);
+            return Set.copyOf(commands.stream()
+                    .map(command -> new LikeBatchWriter.LikeKey(command.getPostId(), command.getUserId()))
+                    .toList());
+        });
+        service = new BatchInteractionService(likeBatchWriter, commentService, postDirectory,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), 50);
+    }
+
+    @Test
+    void collapsesToggleRunsOnTheSamePostToTheLastOne() {
+        List<InteractionCommandResultDto> results = service.apply(userId, List.of(
+                command(Type.LIKE, firstPost),
+                command(Type.UNLIKE, firstPost),
+                command(Type.LIKE, secondPost),
+                command(Type.LIKE, firstPost)));
+
+        assertThat(results).extracting(InteractionCommandResultDto::getStatus)
+                .containsExactly(Status.SUPERSEDED, Status.SUPERSEDED, Status.APPLIED, Status.APPLIED);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<LikeCommand>> written = ArgumentCaptor.forClass(Collection.class);
+        verify(likeBatchWriter).apply(written.capture());
+        assertThat(written.getValue())
+                .extracting(LikeCommand::getPostId, LikeCommand::isLiked)
+                .containsExactly(tuple(secondPost, true), tuple(firstPost, true));
+    }
+
+    @Test
+    void commentsAreNeverCollapsed() {
+        when(commentService.createComment(eq(firstPost), eq(userId), any()))
+                .thenAnswer(invocation -> CommentDto.builder().id(UUID.randomUUID()).build());
+
+        List<InteractionCommandResultDto> results = service.apply(userId, List.of(
+                comment(firstPost, "first"),
+                comment(firstPost, "second")));
+
+        assertThat(results).extracting(InteractionCommandResultDto::getStatus)
+                .containsExactly(Status.APPLIED, Status.APPLIED);
+        verify(commentService, times(2)).createComment(eq(firstPost), eq(userId), any());
+    }
+
+    @Test
+    void aFailingCommandOnlyRejectsItself() {
+        when(commentService.createComment(eq(secondPost), eq(userId), any()))
+                .thenThrow(new IllegalArgumentException("Parent comment not found"));
+
+        List<InteractionCommandResultDto> results = service.apply(userId, List.of(
+                command(Type.LIKE, firstPost),
+                comment(secondPost, "reply")));
+
+        assertThat(results.get(0).getStatus()).isEqualTo(Status.APPLIED);
+        assertThat(results.get(1).getStatus()).isEqualTo(Status.REJECTED);
+        assertThat(results.get(1).getMessage()).isEqualTo("Parent comment not found");
+    }
+
+    private InteractionCommandDto command(Type type, UUID postId) {
+        return InteractionCommandDto.builder().type(type).postId(postId).build();
+    }
+
+    private InteractionCommandDto comment(UUID postId, String content) {
+        return InteractionCommandDto.builder().type(Type.COMMENT).postId(postId).content(content).build();
+    }
+}
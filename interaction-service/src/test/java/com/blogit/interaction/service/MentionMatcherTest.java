@@ -0,0 +1,64 @@
+package com.blogit.interaction.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MentionMatcherTest {
+
+    private final UUID john = UUID.randomUUID();
+    private final UUID johnDoe = UUID.randomUUID();
+    private final UUID alice = UUID.randomUUID();
+
+    private final MentionMatcher matcher = new MentionMatcher();
+
+    @BeforeEach
+    void users() {
+        matcher.add("john", john);
+        matcher.add("John.Doe", johnDoe);
+        matcher.add("alice_1", alice);
+    }
+
+    @Test
+    void resolvesMentionsCaseInsensitivelyInTextOrder() {
+        assertThat(matcher.match("thanks @ALICE_1 and @john, again @alice_1"))
+                .containsExactly(alice, john);
+    }
+
+    @Test
+    void prefersTheLongestUsernameEndingOnAWordBoundary() {
+        assertThat(matcher.match("cc @john.doe")).containsExactly(johnDoe);
+        assertThat(matcher.match("cc @john.doesnt")).containsExactly(john);
+        assertThat(matcher.match("cc @john.")).containsExactly(john);
+    }
+
+    @Test
+    void ignoresPartialNamesAndEmailAddresses() {
+        assertThat(matcher.match("@johnny and mail@john and @ and @")).isEmpty();
+        assertThat(matcher.match(null)).isEmpty();
+    }
+
+    @Test
+    void removeOnlyClearsTheNameForItsCurrentOwner() {
+        UUID newOwner = UUID.randomUUID();
+        matcher.add("john", newOwner);
+
+        matcher.remove("john", john);
+        assertThat(matcher.match("@john")).containsExactly(newOwner);
+
+        matcher.remove("JOHN", newOwner);
+        assertThat(matcher.match("@john")).isEmpty();
+        assertThat(matcher.match("@john.doe")).containsExactly(johnDoe);
+    }
+
+    @Test
+    void rejectsNamesThatCouldNeverBeMentioned() {
+        matcher.add("two words", UUID.randomUUID());
+        matcher.add("at@sign", UUID.randomUUID());
+
+        assertThat(matcher.match("@two words @at@sign")).isEmpty();
+    }
+}
@@ -0,0 +1,113 @@
+package com.blogit.interaction.service;
+
+import com.blogit.interaction.event.PostLikeChangedEvent;
+import com.blogit.interaction.repository.PostgresRepositoryTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs outside a test transaction so concurrent reconciles commit and contend like they do in production
+@Import(PostLikeCounterService.class)
+@TestPropertySource(properties = "app.like-counts.flush-interval-ms=3600000")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PostLikeCounterServiceTest extends PostgresRepositoryTest {
+
+    @Autowired
+    private PostLikeCounterService counterService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final UUID postId = UUID.randomUUID();
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM likes WHERE post_id = ?", postId);
+        jdbcTemplate.update("DELETE FROM post_like_counts WHERE post_id = ?", postId);
+        counterService.deleteCounts(postId);
+    }
+
+    @Test
+    void flushedDeltasAddUpAcrossSlots() {
+        for (int i = 0; i < 5; i++) {
+            liked(true);
+        }
+        assertThat(counterService.getCount(postId)).isEqualTo(5);
+        counterService.flush();
+
+        liked(true);
+        liked(false);
+        liked(false);
+        counterService.flush();
+
+        assertThat(storedCount()).isEqualTo(4);
+        assertThat(counterService.getCount(postId)).isEqualTo(4);
+    }
+
+    @Test
+    void readingCountsNeverWrites() {
+        UUID unknown = UUID.randomUUID();
+
+        Map<UUID, Long> counts = counterService.getCounts(List.of(postId, unknown));
+
+        assertThat(counts).containsEntry(postId, 0L).containsEntry(unknown, 0L);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM post_like_counts WHERE post_id IN (?, ?)",
+                Long.class, postId, unknown)).isZero();
+    }
+
+    @Test
+    void concurrentReconcilesDoNotDoubleTheCount() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            jdbcTemplate.update("INSERT INTO likes (post_id, user_id) VALUES (?, ?)", postId, UUID.randomUUID());
+        }
+        jdbcTemplate.update("INSERT INTO post_like_counts (post_id, slot, like_count) VALUES (?, 1, 7)", postId);
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Long>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return counterService.reconcile(postId);
+                }));
+            }
+            start.countDown();
+            for (Future<Long> result : results) {
+                assertThat(result.get()).isEqualTo(3);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(storedCount()).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM post_like_counts WHERE post_id = ?",
+                Long.class, postId)).isEqualTo(1);
+    }
+
+    private void liked(boolean liked) {
+        counterService.onLikeChanged(new PostLikeChangedEvent(postId, UUID.randomUUID(), liked, null, null));
+    }
+
+    private long storedCount() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(like_count), 0) FROM post_like_counts WHERE post_id = ?", Long.class, postId);
+    }
+}
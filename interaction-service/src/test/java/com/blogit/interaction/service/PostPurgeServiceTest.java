@@ -0,0 +1,114 @@
+package com.blogit.interaction.service;
+
+import com.blogit.interaction.entity.PostPurge;
+import com.blogit.interaction.repository.PostPurgeRepository;
+import com.blogit.interaction.repository.PostgresRepositoryTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import({PostPurgeService.class, PostLikeCounterService.class, ReactionCounterService.class})
+@TestPropertySource(properties = {
+        "app.purge.chunk-size=2",
+        "app.purge.max-chunks-per-run=100",
+        "app.purge.pause-ms=0"
+})
+class PostPurgeServiceTest extends PostgresRepositoryTest {
+
+    @Autowired
+    private PostPurgeService postPurgeService;
+
+    @Autowired
+    private PostPurgeRepository postPurgeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final UUID deletedPost = UUID.randomUUID();
+    private final UUID keptPost = UUID.randomUUID();
+
+    @Test
+    void purgesEveryInteractionOfThePostInChunks() {
+        interactions(deletedPost, 5, 3, 2, 3);
+        interactions(keptPost, 2, 1, 1, 2);
+
+        postPurgeService.enqueue(deletedPost);
+        postPurgeService.purge();
+
+        assertThat(count("SELECT count(*) FROM likes WHERE post_id = ?", deletedPost)).isZero();
+        assertThat(count("SELECT count(*) FROM post_reactions WHERE post_id = ?", deletedPost)).isZero();
+        assertThat(count("SELECT count(*) FROM comment_likes cl JOIN comments c ON c.id = cl.comment_id WHERE c.post_id = ?",
+                deletedPost)).isZero();
+
+        PostPurge purge = postPurgeRepository.findById(deletedPost).orElseThrow();
+        assertThat(purge.getPhase()).isEqualTo(PostPurge.Phase.DONE);
+        assertThat(purge.getCompletedAt()).isNotNull();
+        assertThat(purge.getCursorCommentLikeId()).isNull();
+        assertThat(purge.getDeletedLikes()).isEqualTo(5);
+        assertThat(purge.getDeletedReactions()).isEqualTo(3);
+        assertThat(purge.getDeletedCommentLikes()).isEqualTo(6);
+    }
+
+    @Test
+    void leavesOtherPostsAlone() {
+        interactions(deletedPost, 3, 3, 1, 3);
+        interactions(keptPost, 2, 1, 2, 2);
+
+        postPurgeService.enqueue(deletedPost);
+        postPurgeService.purge();
+
+        assertThat(count("SELECT count(*) FROM likes WHERE post_id = ?", keptPost)).isEqualTo(2);
+        assertThat(count("SELECT count(*) FROM post_reactions WHERE post_id = ?", keptPost)).isEqualTo(1);
+        assertThat(count("SELECT count(*) FROM comment_likes cl JOIN comments c ON c.id = cl.comment_id WHERE c.post_id = ?",
+                keptPost)).isEqualTo(4);
+    }
+
+    @Test
+    void resumesCommentLikesAfterTheCursor() {
+        interactions(deletedPost, 0, 0, 3, 2);
+
+        postPurgeService.enqueue(deletedPost);
+        PostPurge purge = postPurgeRepository.findById(deletedPost).orElseThrow();
+        purge.setPhase(PostPurge.Phase.COMMENT_LIKES);
+        // Pretend the first chunk already ran: everything up to the lowest id is gone
+        UUID lowest = jdbcTemplate.queryForObject(
+                "SELECT cl.id FROM comment_likes cl JOIN comments c ON c.id = cl.comment_id WHERE c.post_id = ? ORDER BY cl.id LIMIT 1",
+                UUID.class, deletedPost);
+        purge.setCursorCommentLikeId(lowest);
+        postPurgeRepository.saveAndFlush(purge);
+
+        postPurgeService.purge();
+
+        assertThat(count("SELECT count(*) FROM comment_likes WHERE id = ?", lowest)).isEqualTo(1);
+        assertThat(postPurgeRepository.findById(deletedPost).orElseThrow().getDeletedCommentLikes()).isEqualTo(5);
+    }
+
+    private void interactions(UUID postId, int likes, int reactions, int comments, int likesPerComment) {
+        for (int i = 0; i < likes; i++) {
+            jdbcTemplate.update("INSERT INTO likes (post_id, user_id) VALUES (?, ?)", postId, UUID.randomUUID());
+        }
+        for (int i = 0; i < reactions; i++) {
+            jdbcTemplate.update("INSERT INTO post_reactions (post_id, user_id, reaction_code) VALUES (?, ?, 0)",
+                    postId, UUID.randomUUID());
+        }
+        for (int i = 0; i < comments; i++) {
+            UUID commentId = UUID.randomUUID();
+            jdbcTemplate.update("INSERT INTO comments (id, post_id, user_id, content, path) VALUES (?, ?, ?, 'comment', ?)",
+                    commentId, postId, UUID.randomUUID(), String.format("%020d", i));
+            for (int j = 0; j < likesPerComment; j++) {
+                jdbcTemplate.update("INSERT INTO comment_likes (comment_id, user_id) VALUES (?, ?)",
+                        commentId, UUID.randomUUID());
+            }
+        }
+    }
+
+    private long count(String sql, UUID postId) {
+        return jdbcTemplate.queryForObject(sql, Long.class, postId);
+    }
+}
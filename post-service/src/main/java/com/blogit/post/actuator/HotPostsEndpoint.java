@@ -0,0 +1,34 @@
+package com.blogit.post.actuator;
+
+import com.blogit.post.service.HotPostCache;
+import com.blogit.post.service.HotPostTracker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@Endpoint(id = "hotposts")
+@RequiredArgsConstructor
+public class HotPostsEndpoint {
+
+    private final HotPostTracker hotPostTracker;
+    private final HotPostCache hotPostCache;
+
+    @ReadOperation
+    public List<Map<String, Object>> hotPosts() {
+        return hotPostTracker.hotPosts().stream()
+                .map(hotPost -> {
+                    Map<String, Object> entry = new LinkedHashMap<>();
+                    entry.put("postId", hotPost.postId());
+                    entry.put("estimatedReads", hotPost.estimatedReads());
+                    entry.put("cached", hotPostCache.isCached(hotPost.postId()));
+                    return entry;
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,32 @@
+package com.blogit.post.config;
+
+import com.blogit.common.kafka.KeyOrderedBatchProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+
+@Configuration
+public class KafkaBatchConfig {
+
+    @Value("${app.kafka.max-in-flight:64}")
+    private int maxInFlight;
+
+    // Same settings as Boot's kafkaListenerContainerFactory, but delivering whole polls
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> batchKafkaListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        factory.setBatchListener(true);
+        return factory;
+    }
+
+    @Bean(destroyMethod = "close")
+    public KeyOrderedBatchProcessor keyOrderedBatchProcessor() {
+        return new KeyOrderedBatchProcessor(maxInFlight);
+    }
+}
@@ -1,14 +1,22 @@
 package com.blogit.post.controller;
 
 import com.blogit.post.dto.CreatePostRequest;
+import com.blogit.post.dto.NewPostsCountResponse;
 import com.blogit.post.dto.PostResponse;
 import com.blogit.post.dto.UpdatePostRequest;
+import com.blogit.post.service.FolloweeIndex;
+import com.blogit.post.service.HotPostCache;
+import com.blogit.post.service.NewPostsService;
 import com.blogit.post.service.PostService;
+import com.blogit.post.service.PublicFeedSnapshot;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @RestController
@@ -17,6 +25,10 @@ import java.util.UUID;
 public class PostController {
     
     private final PostService postService;
+    private final HotPostCache hotPostCache;
+    private final NewPostsService newPostsService;
+    private final PublicFeedSnapshot publicFeedSnapshot;
+    private final FolloweeIndex followeeIndex;
 
     @PostMapping
     public PostResponse createPost(@RequestHeader("X-User-Id") UUID userId, @Valid @RequestBody CreatePostRequest request) {
@@ -25,7 +37,7 @@ public class PostController {
     
     @GetMapping("/{postId}")
     public PostResponse getPost(@PathVariable UUID postId) {
-        return postService.getPost(postId);
+        return hotPostCache.get(postId, () -> postService.getPost(postId));
     }
     
     @GetMapping
@@ -36,10 +48,23 @@ public class PostController {
     }
     
     @GetMapping("/feed")
-    public Page<PostResponse> getFeed(@RequestHeader("X-User-Id") UUID userId, 
-                                        @RequestParam(defaultValue = "0") int page, 
-                                        @RequestParam(defaultValue = "10") int size) {
-        return postService.getFeed(userId, page, size);
+    public ResponseEntity<?> getFeed(@RequestHeader(value = "X-User-Id", required = false) UUID userId, 
+                                     @RequestParam(defaultValue = "0") int page, 
+                                     @RequestParam(defaultValue = "10") int size) {
+        // Anonymous and cold-start users all get the shared public feed
+        if (userId == null || followeeIndex.getFollowees(userId).isEmpty()) {
+            var snapshot = publicFeedSnapshot.getPage(page, size);
+            if (snapshot.isPresent()) {
+                return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(snapshot.get());
+            }
+        }
+        return ResponseEntity.ok(postService.getFeed(userId, page, size));
+    }
+    
+    @GetMapping("/feed/new-count")
+    public NewPostsCountResponse getNewPostsCount(@RequestHeader(value = "X-User-Id", required = false) UUID userId,
+                                                  @RequestParam LocalDateTime since) {
+        return newPostsService.countNewPosts(userId, since);
     }
     
     @GetMapping("/test")
@@ -0,0 +1,19 @@
+package com.blogit.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NewPostsCountResponse {
+    
+    private long count;
+    private boolean capped;
+    private LocalDateTime latestPostAt;
+}
@@ -20,6 +20,8 @@ public class PostResponse {
     private UUID userId;
     private String title;
     private String content;
+    private String renderedContent;
+    private String contentHash;
     private Post.PostVisibility visibility;
     private Set<String> hashtags;
     private Set<String> mediaUrls;
@@ -30,11 +32,17 @@ public class PostResponse {
     private LocalDateTime updatedAt;
     
     public static PostResponse fromEntity(Post post) {
+        return fromEntity(post, post.getRenderedContent());
+    }
+
+    public static PostResponse fromEntity(Post post, String renderedContent) {
         return PostResponse.builder()
                 .id(post.getId())
                 .userId(post.getUserId())
                 .title(post.getTitle())
                 .content(post.getContent())
+                .renderedContent(renderedContent)
+                .contentHash(post.getContentHash())
                 .visibility(post.getVisibility())
                 .hashtags(post.getHashtags())
                 .mediaUrls(post.getMediaUrls())
@@ -1,10 +1,13 @@
 package com.blogit.post.entity;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -31,8 +34,22 @@ public class Post {
     @Column(nullable = false, length = 500)
     private String title;
 
-    @Column(nullable = false, columnDefinition = "TEXT")
-    private String content;
+    @Convert(converter = PostContentConverter.class)
+    @Column(nullable = false)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private PostContent content;
+
+    @Column(columnDefinition = "TEXT")
+    private String renderedContent;
+
+    @Column(length = 64)
+    private String contentHash;
+
+    private Integer rendererVersion;
+
+    @Column(columnDefinition = "TEXT")
+    private String searchText;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -82,6 +99,14 @@ public class Post {
         PUBLIC, FOLLOWERS_ONLY, PRIVATE
     }
 
+    public String getContent() {
+        return content != null ? content.text() : null;
+    }
+
+    public void setContent(String content) {
+        this.content = PostContent.of(content);
+    }
+
     // Helper methods
     public void incrementLikesCount() {
         this.likesCount++;
@@ -114,4 +139,11 @@ public class Post {
     public void addMediaUrl(String mediaUrl) {
         this.mediaUrls.add(mediaUrl);
     }
+
+    public static class PostBuilder {
+        public PostBuilder content(String content) {
+            this.content = PostContent.of(content);
+            return this;
+        }
+    }
 }
@@ -0,0 +1,72 @@
+package com.blogit.post.entity;
+
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Stored form of a post body. Bodies are encoded once when they are set and
+ * only decoded the first time {@link #text()} is called, so loading a post
+ * never pays for decompression unless the raw content is actually used.
+ * Post responses and created/updated events carry the raw body, so reads
+ * always decode it; writes that never read the body, such as deletes, don't.
+ */
+@Immutable
+public final class PostContent implements Serializable {
+
+    private final byte[] stored;
+    private transient volatile String text;
+
+    private PostContent(byte[] stored, String text) {
+        this.stored = stored;
+        this.text = text;
+    }
+
+    public static PostContent of(String text) {
+        return text == null ? null : new PostContent(PostContentCodec.encode(text), text);
+    }
+
+    static PostContent fromStored(byte[] stored) {
+        return stored == null ? null : new PostContent(stored, null);
+    }
+
+    public String text() {
+        String result = text;
+        if (result == null) {
+            result = PostContentCodec.decode(stored);
+            text = result;
+        }
+        return result;
+    }
+
+    public boolean isCompressed() {
+        return PostContentCodec.isCompressed(stored);
+    }
+
+    public int storedSize() {
+        return stored.length;
+    }
+
+    byte[] stored() {
+        return stored;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof PostContent other && Arrays.equals(stored, other.stored);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(stored);
+    }
+
+    @Override
+    public String toString() {
+        return "PostContent{storedBytes=" + stored.length + ", compressed=" + isCompressed() + "}";
+    }
+}
@@ -0,0 +1,137 @@
+package com.blogit.post.entity;
+
+import io.micrometer.core.instrument.Metrics;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Binary layout of a stored post body: one codec byte followed by the payload.
+ * RAW payloads are plain UTF-8. DEFLATE_DICT_V1 payloads carry the raw length
+ * as a 4-byte int and then a deflate stream primed with the v1 dictionary.
+ * Dictionaries are never changed in place; a new one gets a new codec byte.
+ */
+final class PostContentCodec {
+
+    static final byte RAW = 0;
+    static final byte DEFLATE_DICT_V1 = 1;
+
+    static final int COMPRESSION_THRESHOLD_BYTES = 1024;
+
+    private static final int LENGTH_HEADER_BYTES = 4;
+    private static final byte[] DICTIONARY_V1 = loadDictionary("/content-dictionary-v1.txt");
+
+    private PostContentCodec() {
+    }
+
+    static byte[] encode(String text) {
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+        byte[] stored = raw.length >= COMPRESSION_THRESHOLD_BYTES ? compress(raw) : null;
+
+        // Keep the raw form whenever compression does not pay for its header
+        if (stored == null || stored.length > raw.length) {
+            stored = new byte[raw.length + 1];
+            stored[0] = RAW;
+            System.arraycopy(raw, 0, stored, 1, raw.length);
+        }
+
+        Metrics.summary("post.content.raw.bytes").record(raw.length);
+        Metrics.summary("post.content.stored.bytes", "codec", codecName(stored)).record(stored.length);
+        return stored;
+    }
+
+    static String decode(byte[] stored) {
+        if (stored.length == 0) {
+            return "";
+        }
+        switch (stored[0]) {
+            case RAW:
+                return new String(stored, 1, stored.length - 1, StandardCharsets.UTF_8);
+            case DEFLATE_DICT_V1:
+                return Metrics.timer("post.content.decompress").record(() -> inflate(stored, DICTIONARY_V1));
+            default:
+                throw new IllegalStateException("Unknown post content codec: " + stored[0]);
+        }
+    }
+
+    static boolean isCompressed(byte[] stored) {
+        return stored.length > 0 && stored[0] != RAW;
+    }
+
+    private static byte[] compress(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setDictionary(DICTIONARY_V1);
+            deflater.setInput(raw);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 16);
+            out.write(DEFLATE_DICT_V1);
+            out.writeBytes(ByteBuffer.allocate(LENGTH_HEADER_BYTES).putInt(raw.length).array());
+
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                int written = deflater.deflate(buffer);
+                out.write(buffer, 0, written);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static String inflate(byte[] stored, byte[] dictionary) {
+        int headerLength = 1 + LENGTH_HEADER_BYTES;
+        int rawLength = ByteBuffer.wrap(stored, 1, LENGTH_HEADER_BYTES).getInt();
+        byte[] raw = new byte[rawLength];
+
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(stored, headerLength, stored.length - headerLength);
+            int offset = 0;
+            while (offset < rawLength) {
+                int read = inflater.inflate(raw, offset, rawLength - offset);
+                if (read == 0) {
+                    if (inflater.needsDictionary()) {
+                        inflater.setDictionary(dictionary);
+                        continue;
+                    }
+                    if (inflater.finished() || inflater.needsInput()) {
+                        break;
+                    }
+                }
+                offset += read;
+            }
+            if (offset != rawLength) {
+                throw new IllegalStateException("Truncated compressed post content");
+            }
+            return new String(raw, StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt compressed post content", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static String codecName(byte[] stored) {
+        return stored[0] == RAW ? "raw" : "deflate-dict-v1";
+    }
+
+    private static byte[] loadDictionary(String resource) {
+        try (InputStream in = PostContentCodec.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing post content dictionary: " + resource);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
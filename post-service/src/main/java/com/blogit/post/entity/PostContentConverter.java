@@ -0,0 +1,18 @@
+package com.blogit.post.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class PostContentConverter implements AttributeConverter<PostContent, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(PostContent content) {
+        return content == null ? null : content.stored();
+    }
+
+    @Override
+    public PostContent convertToEntityAttribute(byte[] stored) {
+        return PostContent.fromStored(stored);
+    }
+}
@@ -4,6 +4,7 @@ import com.blogit.post.entity.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -25,7 +26,8 @@ public interface PostRepository extends JpaRepository<Post, UUID> {
     @Query("SELECT p FROM Post p WHERE p.visibility = 'PUBLIC' AND p.isActive = true AND p.userId IN :userIds ORDER BY p.createdAt DESC")
     Page<Post> findPublicPostsByUserIds(@Param("userIds") List<UUID> userIds, Pageable pageable);
     
-    @Query("SELECT p FROM Post p WHERE p.isActive = true AND p.content ILIKE %:keyword% OR p.title ILIKE %:keyword% ORDER BY p.createdAt DESC")
+    // Raw bodies are stored compressed, so the body is matched through the plain-text copy written next to it
+    @Query("SELECT p FROM Post p WHERE p.isActive = true AND (p.searchText ILIKE %:keyword% OR p.title ILIKE %:keyword%) ORDER BY p.createdAt DESC")
     Page<Post> findByContentOrTitleContainingIgnoreCase(@Param("keyword") String keyword, Pageable pageable);
     
     @Query("SELECT p FROM Post p JOIN p.hashtags h WHERE h = :hashtag AND p.isActive = true ORDER BY p.createdAt DESC")
@@ -39,6 +41,19 @@ public interface PostRepository extends JpaRepository<Post, UUID> {
     
     Long countByUserIdAndIsActive(UUID userId, Boolean isActive);
     
+    @Query("SELECT p.id, p.userId, p.createdAt, p.visibility FROM Post p WHERE p.isActive = true AND p.createdAt > :since")
+    List<Object[]> findRecentPostStamps(@Param("since") LocalDateTime since);
+    
     @Query("SELECT DISTINCT h FROM Post p JOIN p.hashtags h WHERE p.isActive = true")
     List<String> findAllActiveHashtags();
+    
+    @Query(value = "SELECT * FROM posts WHERE (renderer_version IS DISTINCT FROM :rendererVersion OR search_text IS NULL) AND id > :after ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Post> findStaleRenderings(@Param("rendererVersion") int rendererVersion, @Param("after") UUID after, @Param("limit") int limit);
+    
+    // Leaves updated_at and the entity version alone; a concurrent edit wins because its own rendering is written with its save
+    @Modifying
+    @Query("UPDATE Post p SET p.renderedContent = :renderedContent, p.searchText = :searchText, p.contentHash = :contentHash, p.rendererVersion = :rendererVersion WHERE p.id = :id AND p.version = :version")
+    int updateRendering(@Param("id") UUID id, @Param("version") Long version, @Param("renderedContent") String renderedContent,
+                        @Param("searchText") String searchText, @Param("contentHash") String contentHash,
+                        @Param("rendererVersion") int rendererVersion);
 }
@@ -0,0 +1,188 @@
+package com.blogit.post.service;
+
+import com.blogit.post.entity.Post;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Keeps the most recent post timestamps per author (and for the public feed)
+ * so "new posts since" badges can be answered without touching Postgres.
+ * Only the newest {@code app.new-posts.max-per-author} posts of each author
+ * are kept, which is also the most a single author can contribute to a count.
+ */
+@Component
+public class AuthorWatermarkIndex {
+
+    private static final Comparator<PostStamp> NEWEST_FIRST = Comparator
+            .comparing(PostStamp::createdAt).reversed()
+            .thenComparing(PostStamp::postId);
+
+    private final Map<UUID, NavigableSet<PostStamp>> stampsByAuthor = new HashMap<>();
+    private final Map<UUID, PostStamp> stampsByPost = new HashMap<>();
+    private final NavigableSet<PostStamp> publicStamps = new TreeSet<>(NEWEST_FIRST);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final int maxPerAuthor;
+    private final int maxPublic;
+
+    public AuthorWatermarkIndex(@Value("${app.new-posts.max-per-author:100}") int maxPerAuthor,
+                                @Value("${app.new-posts.max-public:10000}") int maxPublic) {
+        this.maxPerAuthor = maxPerAuthor;
+        this.maxPublic = maxPublic;
+    }
+
+    public void recordPost(UUID postId, UUID authorId, LocalDateTime createdAt, Post.PostVisibility visibility) {
+        lock.writeLock().lock();
+        try {
+            remove(postId);
+            if (visibility == Post.PostVisibility.PRIVATE || createdAt == null) {
+                return;
+            }
+
+            PostStamp stamp = new PostStamp(createdAt, postId, authorId);
+            stampsByPost.put(postId, stamp);
+
+            NavigableSet<PostStamp> authorStamps = stampsByAuthor.computeIfAbsent(authorId, id -> new TreeSet<>(NEWEST_FIRST));
+            authorStamps.add(stamp);
+            while (authorStamps.size() > maxPerAuthor) {
+                forgetIfUnreferenced(authorStamps.pollLast());
+            }
+
+            if (visibility == Post.PostVisibility.PUBLIC) {
+                publicStamps.add(stamp);
+                while (publicStamps.size() > maxPublic) {
+                    forgetIfUnreferenced(publicStamps.pollLast());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Private posts have no stamp, so one that becomes visible again is recorded from the update itself
+    public void updateVisibility(UUID postId, UUID authorId, LocalDateTime createdAt, Post.PostVisibility visibility) {
+        lock.writeLock().lock();
+        try {
+            PostStamp stamp = stampsByPost.get(postId);
+            if (stamp != null) {
+                recordPost(postId, stamp.authorId(), stamp.createdAt(), visibility);
+            } else if (authorId != null && createdAt != null) {
+                recordPost(postId, authorId, createdAt, visibility);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removePost(UUID postId) {
+        lock.writeLock().lock();
+        try {
+            remove(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public long countSince(Collection<UUID> authorIds, LocalDateTime since, long limit) {
+        lock.readLock().lock();
+        try {
+            long count = 0;
+            for (UUID authorId : authorIds) {
+                NavigableSet<PostStamp> authorStamps = stampsByAuthor.get(authorId);
+                if (authorStamps != null) {
+                    count += countNewerThan(authorStamps, since, limit - count);
+                    if (count >= limit) {
+                        break;
+                    }
+                }
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long countPublicSince(LocalDateTime since, long limit) {
+        lock.readLock().lock();
+        try {
+            return countNewerThan(publicStamps, since, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public LocalDateTime latest(Collection<UUID> authorIds) {
+        lock.readLock().lock();
+        try {
+            LocalDateTime latest = null;
+            for (UUID authorId : authorIds) {
+                NavigableSet<PostStamp> authorStamps = stampsByAuthor.get(authorId);
+                if (authorStamps != null && !authorStamps.isEmpty()) {
+                    LocalDateTime newest = authorStamps.first().createdAt();
+                    if (latest == null || newest.isAfter(latest)) {
+                        latest = newest;
+                    }
+                }
+            }
+            return latest;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public LocalDateTime latestPublic() {
+        lock.readLock().lock();
+        try {
+            return publicStamps.isEmpty() ? null : publicStamps.first().createdAt();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void remove(UUID postId) {
+        PostStamp stamp = stampsByPost.remove(postId);
+        if (stamp == null) {
+            return;
+        }
+        publicStamps.remove(stamp);
+        NavigableSet<PostStamp> authorStamps = stampsByAuthor.get(stamp.authorId());
+        if (authorStamps != null) {
+            authorStamps.remove(stamp);
+            if (authorStamps.isEmpty()) {
+                stampsByAuthor.remove(stamp.authorId());
+            }
+        }
+    }
+
+    private void forgetIfUnreferenced(PostStamp stamp) {
+        NavigableSet<PostStamp> authorStamps = stampsByAuthor.get(stamp.authorId());
+        boolean inAuthorStamps = authorStamps != null && authorStamps.contains(stamp);
+        if (!inAuthorStamps && !publicStamps.contains(stamp)) {
+            stampsByPost.remove(stamp.postId());
+        }
+    }
+
+    private long countNewerThan(NavigableSet<PostStamp> stamps, LocalDateTime since, long limit) {
+        long count = 0;
+        for (PostStamp stamp : stamps) {
+            if (count >= limit || !stamp.createdAt().isAfter(since)) {
+                break;
+            }
+            count++;
+        }
+        return count;
+    }
+
+    private record PostStamp(LocalDateTime createdAt, UUID postId, UUID authorId) {
+    }
+}
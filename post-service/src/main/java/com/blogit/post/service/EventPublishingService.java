@@ -30,6 +30,7 @@ public class EventPublishingService {
             eventData.setContent(post.getContent());
             eventData.setTags(new ArrayList<>(post.getHashtags()));
             eventData.setDraft(false);
+            eventData.setVisibility(post.getVisibility().name());
             eventData.setCreatedAt(post.getCreatedAt());
 
             PostCreatedEvent event = PostCreatedEvent.builder()
@@ -63,6 +64,8 @@ public class EventPublishingService {
             eventData.setContent(post.getContent());
             eventData.setTags(new ArrayList<>(post.getHashtags()));
             eventData.setActive(post.getIsActive());
+            eventData.setVisibility(post.getVisibility().name());
+            eventData.setCreatedAt(post.getCreatedAt());
             eventData.setUpdatedAt(LocalDateTime.now());
             
             PostUpdatedEvent event = PostUpdatedEvent.builder()
@@ -0,0 +1,34 @@
+package com.blogit.post.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory replica of the follow graph (follower -> followees), loaded from
+ * user-service on every start and kept current from user-events by
+ * {@code FollowGraphConsumer}.
+ */
+@Component
+public class FolloweeIndex {
+
+    private final Map<UUID, Set<UUID>> followeesByFollower = new ConcurrentHashMap<>();
+
+    public void follow(UUID followerId, UUID followingId) {
+        followeesByFollower.computeIfAbsent(followerId, id -> ConcurrentHashMap.newKeySet()).add(followingId);
+    }
+
+    public void unfollow(UUID followerId, UUID followingId) {
+        followeesByFollower.computeIfPresent(followerId, (id, followees) -> {
+            followees.remove(followingId);
+            return followees.isEmpty() ? null : followees;
+        });
+    }
+
+    public Set<UUID> getFollowees(UUID followerId) {
+        return followeesByFollower.getOrDefault(followerId, Set.of());
+    }
+}
@@ -0,0 +1,64 @@
+package com.blogit.post.service;
+
+import com.blogit.post.dto.PostResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Instance-local copies of the posts {@link HotPostTracker} currently reports
+ * as hot. Entries live only for a short TTL, which bounds how stale a replica
+ * can be after an update handled by another instance.
+ */
+@Component
+public class HotPostCache {
+
+    private final HotPostTracker tracker;
+    private final long ttlMillis;
+    private final Map<UUID, CachedPost> entries = new ConcurrentHashMap<>();
+
+    public HotPostCache(HotPostTracker tracker, @Value("${app.hot-posts.ttl-ms:5000}") long ttlMillis) {
+        this.tracker = tracker;
+        this.ttlMillis = ttlMillis;
+    }
+
+    public PostResponse get(UUID postId, Supplier<PostResponse> loader) {
+        tracker.recordRead(postId);
+        if (!tracker.isHot(postId)) {
+            return loader.get();
+        }
+
+        long now = System.currentTimeMillis();
+        CachedPost cached = entries.get(postId);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.post();
+        }
+
+        PostResponse post = loader.get();
+        entries.put(postId, new CachedPost(post, now + ttlMillis));
+        return post;
+    }
+
+    public boolean isCached(UUID postId) {
+        CachedPost cached = entries.get(postId);
+        return cached != null && cached.expiresAt() > System.currentTimeMillis();
+    }
+
+    public void evict(UUID postId) {
+        entries.remove(postId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.hot-posts.ttl-ms:5000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        entries.entrySet().removeIf(entry -> entry.getValue().expiresAt() <= now || !tracker.isHot(entry.getKey()));
+    }
+
+    private record CachedPost(PostResponse post, long expiresAt) {
+    }
+}
@@ -0,0 +1,99 @@
+package com.blogit.post.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Tracks the most read posts of this instance. Every read increments a
+ * count-min sketch without locking; only posts whose estimate beats the
+ * current admission threshold are considered for the small heavy-hitter set.
+ * Counts are halved periodically so the set follows recent traffic.
+ */
+@Component
+public class HotPostTracker {
+
+    private static final int DEPTH = 4;
+    private static final int WIDTH = 4096;
+    private static final long[] ROW_SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L
+    };
+
+    private final AtomicIntegerArray sketch = new AtomicIntegerArray(DEPTH * WIDTH);
+    private final Map<UUID, Long> heavyHitters = new ConcurrentHashMap<>();
+    private final int topN;
+    private final long minReads;
+    private volatile long admissionThreshold;
+
+    public HotPostTracker(@Value("${app.hot-posts.top-n:20}") int topN,
+                          @Value("${app.hot-posts.min-reads:50}") long minReads) {
+        this.topN = topN;
+        this.minReads = minReads;
+        this.admissionThreshold = minReads;
+    }
+
+    public void recordRead(UUID postId) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, sketch.incrementAndGet(row * WIDTH + bucket(postId, row)));
+        }
+
+        if (heavyHitters.replace(postId, estimate) == null && estimate >= admissionThreshold) {
+            admit(postId, estimate);
+        }
+    }
+
+    public boolean isHot(UUID postId) {
+        return heavyHitters.containsKey(postId);
+    }
+
+    public List<HotPost> hotPosts() {
+        return heavyHitters.entrySet().stream()
+                .map(entry -> new HotPost(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingLong(HotPost::estimatedReads).reversed())
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${app.hot-posts.decay-interval-ms:10000}")
+    public synchronized void decay() {
+        for (int i = 0; i < sketch.length(); i++) {
+            sketch.set(i, sketch.get(i) >>> 1);
+        }
+        heavyHitters.replaceAll((postId, reads) -> reads >>> 1);
+        heavyHitters.values().removeIf(reads -> reads < minReads);
+        updateAdmissionThreshold();
+    }
+
+    private synchronized void admit(UUID postId, long estimate) {
+        heavyHitters.put(postId, estimate);
+        if (heavyHitters.size() > topN) {
+            heavyHitters.entrySet().stream()
+                    .min(Map.Entry.comparingByValue())
+                    .ifPresent(coldest -> heavyHitters.remove(coldest.getKey()));
+        }
+        updateAdmissionThreshold();
+    }
+
+    private void updateAdmissionThreshold() {
+        long coldest = heavyHitters.size() < topN ? minReads
+                : heavyHitters.values().stream().mapToLong(Long::longValue).min().orElse(minReads);
+        admissionThreshold = Math.max(minReads, coldest + 1);
+    }
+
+    private static int bucket(UUID postId, int row) {
+        long h = (postId.getMostSignificantBits() ^ Long.rotateLeft(postId.getLeastSignificantBits(), row * 17))
+                * ROW_SEEDS[row];
+        h ^= h >>> 32;
+        return (int) (h & (WIDTH - 1));
+    }
+
+    public record HotPost(UUID postId, long estimatedReads) {
+    }
+}
@@ -0,0 +1,79 @@
+package com.blogit.post.service;
+
+import com.blogit.post.dto.NewPostsCountResponse;
+import com.blogit.post.entity.Post;
+import com.blogit.post.repository.PostRepository;
+import com.blogit.post.service.consumer.PostWatermarkConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+@Slf4j
+public class NewPostsService {
+
+    private final AuthorWatermarkIndex watermarkIndex;
+    private final FolloweeIndex followeeIndex;
+    private final PostRepository postRepository;
+    private final PostWatermarkConsumer postWatermarkConsumer;
+    private final long maxCount;
+    private final int warmupDays;
+    private final long replayOverlapMs;
+
+    public NewPostsService(AuthorWatermarkIndex watermarkIndex,
+                           FolloweeIndex followeeIndex,
+                           PostRepository postRepository,
+                           PostWatermarkConsumer postWatermarkConsumer,
+                           @Value("${app.new-posts.max-count:99}") long maxCount,
+                           @Value("${app.new-posts.warmup-days:7}") int warmupDays,
+                           @Value("${app.new-posts.replay-overlap-ms:60000}") long replayOverlapMs) {
+        this.watermarkIndex = watermarkIndex;
+        this.followeeIndex = followeeIndex;
+        this.postRepository = postRepository;
+        this.postWatermarkConsumer = postWatermarkConsumer;
+        this.maxCount = maxCount;
+        this.warmupDays = warmupDays;
+        this.replayOverlapMs = replayOverlapMs;
+    }
+
+    public NewPostsCountResponse countNewPosts(UUID userId, LocalDateTime since) {
+        Set<UUID> followees = userId != null ? followeeIndex.getFollowees(userId) : Set.of();
+
+        long count;
+        LocalDateTime latestPostAt;
+        if (followees.isEmpty()) {
+            // Users without followees see the public feed
+            count = watermarkIndex.countPublicSince(since, maxCount + 1);
+            latestPostAt = watermarkIndex.latestPublic();
+        } else {
+            count = watermarkIndex.countSince(followees, since, maxCount + 1);
+            latestPostAt = watermarkIndex.latest(followees);
+        }
+
+        return NewPostsCountResponse.builder()
+                .count(Math.min(count, maxCount))
+                .capped(count > maxCount)
+                .latestPostAt(latestPostAt)
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        // Post events from slightly before the query are replayed, so posts committed while it runs are not missed
+        Instant replayFrom = Instant.now().minusMillis(replayOverlapMs);
+        List<Object[]> stamps = postRepository.findRecentPostStamps(LocalDateTime.now().minusDays(warmupDays));
+        for (Object[] stamp : stamps) {
+            watermarkIndex.recordPost((UUID) stamp[0], (UUID) stamp[1], (LocalDateTime) stamp[2], (Post.PostVisibility) stamp[3]);
+        }
+        log.info("Loaded {} recent posts into the author watermark index", stamps.size());
+        postWatermarkConsumer.start(replayFrom);
+    }
+}
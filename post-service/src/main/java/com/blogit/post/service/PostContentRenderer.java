@@ -0,0 +1,126 @@
+package com.blogit.post.service;
+
+import com.blogit.post.entity.Post;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Renders the markdown subset supported by post bodies into sanitized HTML.
+ * All input is HTML-escaped before any markup is applied, so the output never
+ * contains tags that did not come from the renderer itself.
+ *
+ * Bump {@link #VERSION} whenever the output changes; stored renderings with an
+ * older version are rewritten by {@link PostRenderBackfill} and re-rendered on
+ * read until then.
+ */
+@Component
+public class PostContentRenderer {
+
+    public static final int VERSION = 2;
+
+    private static final Pattern CODE = Pattern.compile("`([^`\\n]+)`");
+    private static final Pattern LINK = Pattern.compile("\\[([^\\]\\n]+)\\]\\((https?://[^\\s)]+)\\)");
+    private static final Pattern BOLD = Pattern.compile("\\*\\*([^*\\n]+)\\*\\*");
+    private static final Pattern ITALIC = Pattern.compile("\\*([^*\\n]+)\\*");
+    private static final Pattern BLOCK_SEPARATOR = Pattern.compile("\\n\\s*\\n");
+    private static final Pattern BLOCK_TAG = Pattern.compile("(?:</?(?:p|h[1-6]|br)>)+");
+    private static final Pattern TAG = Pattern.compile("<[^>]+>");
+
+    public String render(String markdown) {
+        if (markdown == null) {
+            return null;
+        }
+
+        StringBuilder html = new StringBuilder(markdown.length() + 64);
+        for (String block : BLOCK_SEPARATOR.split(markdown.replace("\r\n", "\n"))) {
+            String trimmed = block.strip();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+
+            int level = headingLevel(trimmed);
+            if (level > 0) {
+                html.append("<h").append(level).append('>')
+                        .append(renderInline(trimmed.substring(level).strip()))
+                        .append("</h").append(level).append('>');
+            } else {
+                html.append("<p>")
+                        .append(renderInline(trimmed).replace("\n", "<br>"))
+                        .append("</p>");
+            }
+        }
+        return html.toString();
+    }
+
+    // The rendering only contains tags emitted above, so dropping them and unescaping yields the text a reader sees
+    public String plainText(String markdown) {
+        String html = render(markdown);
+        if (html == null) {
+            return null;
+        }
+        html = BLOCK_TAG.matcher(html).replaceAll(" ");
+        return HtmlUtils.htmlUnescape(TAG.matcher(html).replaceAll("")).strip();
+    }
+
+    public String renderedContent(Post post) {
+        if (post.getRenderedContent() != null && isCurrent(post)) {
+            return post.getRenderedContent();
+        }
+        return render(post.getContent());
+    }
+
+    public boolean isCurrent(Post post) {
+        return Integer.valueOf(VERSION).equals(post.getRendererVersion());
+    }
+
+    public String hash(String content) {
+        if (content == null) {
+            return null;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // Code spans are emitted verbatim; the other markup only applies between them
+    private String renderInline(String text) {
+        String html = HtmlUtils.htmlEscape(text);
+        StringBuilder out = new StringBuilder(html.length() + 32);
+        Matcher code = CODE.matcher(html);
+        int last = 0;
+        while (code.find()) {
+            out.append(renderMarkup(html.substring(last, code.start())))
+                    .append("<code>").append(code.group(1)).append("</code>");
+            last = code.end();
+        }
+        return out.append(renderMarkup(html.substring(last))).toString();
+    }
+
+    private String renderMarkup(String html) {
+        html = LINK.matcher(html).replaceAll("<a href=\"$2\" rel=\"nofollow noopener\">$1</a>");
+        html = BOLD.matcher(html).replaceAll("<strong>$1</strong>");
+        html = ITALIC.matcher(html).replaceAll("<em>$1</em>");
+        return html;
+    }
+
+    private int headingLevel(String block) {
+        int level = 0;
+        while (level < block.length() && level < 6 && block.charAt(level) == '#') {
+            level++;
+        }
+        if (level == 0 || level >= block.length() || block.charAt(level) != ' ' || block.indexOf('\n') >= 0) {
+            return 0;
+        }
+        return level;
+    }
+}
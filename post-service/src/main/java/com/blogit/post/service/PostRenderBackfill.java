@@ -0,0 +1,95 @@
+package com.blogit.post.service;
+
+import com.blogit.post.entity.Post;
+import com.blogit.post.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Re-renders stored posts whose rendering or search text is missing, or whose
+ * rendering came from an older {@link PostContentRenderer#VERSION}. Rows are walked in id order, one
+ * chunk per transaction; rows skipped because an edit raced the backfill are
+ * picked up on the next pass, and the job goes idle once a pass finds nothing
+ * left to do.
+ */
+@Component
+@Slf4j
+public class PostRenderBackfill {
+
+    private static final UUID START = new UUID(0L, 0L);
+
+    private final PostRepository postRepository;
+    private final PostContentRenderer contentRenderer;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+
+    private UUID cursor = START;
+    private long renderedInPass;
+    private long skippedInPass;
+    private volatile boolean done;
+
+    public PostRenderBackfill(PostRepository postRepository,
+                              PostContentRenderer contentRenderer,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${app.render-backfill.chunk-size:500}") int chunkSize,
+                              @Value("${app.render-backfill.max-chunks-per-run:10}") int maxChunksPerRun) {
+        this.postRepository = postRepository;
+        this.contentRenderer = contentRenderer;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+    }
+
+    @Scheduled(fixedDelayString = "${app.render-backfill.interval-ms:5000}")
+    public void backfill() {
+        if (done) {
+            return;
+        }
+
+        for (int i = 0; i < maxChunksPerRun; i++) {
+            Chunk chunk = transactionTemplate.execute(status -> renderChunk(cursor));
+            if (chunk == null || chunk.rows() == 0) {
+                finishPass();
+                return;
+            }
+
+            cursor = chunk.last();
+            renderedInPass += chunk.rendered();
+            skippedInPass += chunk.rows() - chunk.rendered();
+            if (chunk.rows() < chunkSize) {
+                finishPass();
+                return;
+            }
+        }
+    }
+
+    private Chunk renderChunk(UUID after) {
+        List<Post> posts = postRepository.findStaleRenderings(PostContentRenderer.VERSION, after, chunkSize);
+        int rendered = 0;
+        for (Post post : posts) {
+            rendered += postRepository.updateRendering(post.getId(), post.getVersion(),
+                    contentRenderer.render(post.getContent()), contentRenderer.plainText(post.getContent()),
+                    contentRenderer.hash(post.getContent()), PostContentRenderer.VERSION);
+        }
+        UUID last = posts.isEmpty() ? after : posts.get(posts.size() - 1).getId();
+        return new Chunk(posts.size(), rendered, last);
+    }
+
+    private void finishPass() {
+        log.info("Render backfill pass finished: {} posts re-rendered, {} skipped", renderedInPass, skippedInPass);
+        done = skippedInPass == 0;
+        cursor = START;
+        renderedInPass = 0;
+        skippedInPass = 0;
+    }
+
+    private record Chunk(int rows, int rendered, UUID last) {
+    }
+}
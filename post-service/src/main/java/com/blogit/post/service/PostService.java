@@ -27,6 +27,9 @@ public class PostService {
 
     private final PostRepository postRepository;
     private final EventPublishingService eventPublishingService;
+    private final PostContentRenderer contentRenderer;
+    private final HotPostCache hotPostCache;
+    private final AuthorWatermarkIndex watermarkIndex;
 
     public PostResponse createPost(UUID userId, CreatePostRequest request) {
         Post post = Post.builder()
@@ -37,8 +40,10 @@ public class PostService {
                 .hashtags(request.getHashtags())
                 .mediaUrls(request.getMediaUrls())
                 .build();
+        renderContent(post);
 
         post = postRepository.save(post);
+        watermarkIndex.recordPost(post.getId(), post.getUserId(), post.getCreatedAt(), post.getVisibility());
         
         // Publish post created event
         eventPublishingService.publishPostCreated(post);
@@ -47,6 +52,7 @@ public class PostService {
         return PostResponse.fromEntity(post);
     }
 
+    @Transactional(readOnly = true)
     public PostResponse getPost(UUID postId) {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Post not found."));
@@ -56,19 +62,19 @@ public class PostService {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Post not found.");
         }
 
-        return PostResponse.fromEntity(post);
+        return toResponse(post);
     }
 
     public Page<PostResponse> getUserPosts(UUID userId, int page, int size) {
         return postRepository.findByUserIdAndIsActiveOrderByCreatedAtDesc(userId, true, PageRequest.of(page, size))
-                .map(PostResponse::fromEntity);
+                .map(this::toResponse);
     }
     
     public Page<PostResponse> getFeed(UUID userId, int page, int size) {
         // For now, return all public posts ordered by creation date
         // In a real implementation, you would consider user's following list, preferences, etc.
         return postRepository.findByVisibilityAndIsActiveOrderByCreatedAtDesc(Post.PostVisibility.PUBLIC, true, PageRequest.of(page, size))
-                .map(PostResponse::fromEntity);
+                .map(this::toResponse);
     }
 
     public PostResponse updatePost(UUID postId, UUID userId, UpdatePostRequest request) {
@@ -84,8 +90,11 @@ public class PostService {
         post.setHashtags(request.getHashtags());
         post.setMediaUrls(request.getMediaUrls());
         post.setVisibility(request.getVisibility());
+        renderContent(post);
 
         post = postRepository.save(post);
+        hotPostCache.evict(postId);
+        watermarkIndex.recordPost(post.getId(), post.getUserId(), post.getCreatedAt(), post.getVisibility());
         
         // Publish post updated event
         eventPublishingService.publishPostUpdated(post);
@@ -103,8 +112,28 @@ public class PostService {
 
         post.setIsActive(false);
         post = postRepository.save(post);
+        hotPostCache.evict(postId);
+        watermarkIndex.removePost(postId);
         
         // Publish post deleted event
         eventPublishingService.publishPostDeleted(post);
     }
+
+    // Rows the backfill has not reached yet are rendered for the response only
+    private PostResponse toResponse(Post post) {
+        return PostResponse.fromEntity(post, contentRenderer.renderedContent(post));
+    }
+
+    private void renderContent(Post post) {
+        String hash = contentRenderer.hash(post.getContent());
+        if (hash != null && hash.equals(post.getContentHash()) && contentRenderer.isCurrent(post)
+                && post.getSearchText() != null) {
+            return;
+        }
+
+        post.setRenderedContent(contentRenderer.render(post.getContent()));
+        post.setSearchText(contentRenderer.plainText(post.getContent()));
+        post.setContentHash(hash);
+        post.setRendererVersion(PostContentRenderer.VERSION);
+    }
 }
@@ -0,0 +1,102 @@
+package com.blogit.post.service;
+
+import com.blogit.post.dto.PostResponse;
+import com.blogit.post.entity.Post;
+import com.blogit.post.repository.PostRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Immutable, pre-serialized copy of the first pages of the public feed. Every
+ * anonymous or cold-start feed request is answered from these bytes, so the
+ * shared feed costs one query per refresh instead of one per request.
+ */
+@Component
+@Slf4j
+public class PublicFeedSnapshot {
+
+    private final PostRepository postRepository;
+    private final PostContentRenderer contentRenderer;
+    private final ObjectMapper objectMapper;
+    private final int pages;
+    private final int pageSize;
+    private final long maxAgeMs;
+
+    private volatile Snapshot snapshot;
+    private volatile boolean dirty = true;
+
+    public PublicFeedSnapshot(PostRepository postRepository,
+                              PostContentRenderer contentRenderer,
+                              ObjectMapper objectMapper,
+                              @Value("${app.feed-snapshot.pages:5}") int pages,
+                              @Value("${app.feed-snapshot.page-size:10}") int pageSize,
+                              @Value("${app.feed-snapshot.max-age-ms:5000}") long maxAgeMs) {
+        this.postRepository = postRepository;
+        this.contentRenderer = contentRenderer;
+        this.objectMapper = objectMapper;
+        this.pages = pages;
+        this.pageSize = pageSize;
+        this.maxAgeMs = maxAgeMs;
+    }
+
+    public Optional<byte[]> getPage(int page, int size) {
+        Snapshot current = snapshot;
+        if (current == null || size != pageSize || page < 0 || page >= current.pages().size()) {
+            return Optional.empty();
+        }
+        return Optional.of(current.pages().get(page));
+    }
+
+    public void markDirty() {
+        dirty = true;
+    }
+
+    // Ticks often so a dirty snapshot is rebuilt quickly; bursts of writes still cost a single rebuild
+    @Scheduled(fixedDelayString = "${app.feed-snapshot.tick-ms:500}")
+    public void refreshIfNeeded() {
+        Snapshot current = snapshot;
+        if (!dirty && current != null && System.currentTimeMillis() - current.builtAt() < maxAgeMs) {
+            return;
+        }
+
+        dirty = false;
+        try {
+            snapshot = build();
+        } catch (Exception e) {
+            dirty = true;
+            log.error("Failed to rebuild public feed snapshot", e);
+        }
+    }
+
+    private Snapshot build() throws JsonProcessingException {
+        long builtAt = System.currentTimeMillis();
+        Page<Post> posts = postRepository.findByVisibilityAndIsActiveOrderByCreatedAtDesc(
+                Post.PostVisibility.PUBLIC, true, PageRequest.of(0, pages * pageSize));
+        List<PostResponse> responses = posts.getContent().stream()
+                .map(post -> PostResponse.fromEntity(post, contentRenderer.renderedContent(post)))
+                .toList();
+
+        List<byte[]> serialized = new ArrayList<>(pages);
+        for (int page = 0; page < pages; page++) {
+            int from = Math.min(page * pageSize, responses.size());
+            int to = Math.min(from + pageSize, responses.size());
+            Page<PostResponse> feedPage = new PageImpl<>(responses.subList(from, to), PageRequest.of(page, pageSize), posts.getTotalElements());
+            serialized.add(objectMapper.writeValueAsBytes(feedPage));
+        }
+        return new Snapshot(List.copyOf(serialized), builtAt);
+    }
+
+    private record Snapshot(List<byte[]> pages, long builtAt) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.blogit.post.service.consumer;
+
+import com.blogit.common.event.DomainEvent;
+import com.blogit.common.event.post.PostCreatedEvent;
+import com.blogit.common.event.post.PostDeletedEvent;
+import com.blogit.common.event.post.PostUpdatedEvent;
+import com.blogit.common.kafka.KafkaConfig;
+import com.blogit.common.kafka.TopicTailer;
+import com.blogit.post.entity.Post;
+import com.blogit.post.service.AuthorWatermarkIndex;
+import com.blogit.post.service.PublicFeedSnapshot;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Applies posts written through other instances to this instance's
+ * {@link AuthorWatermarkIndex} and marks the {@link PublicFeedSnapshot} stale.
+ * Partitions are read directly, without a consumer group, starting shortly
+ * before the database warm-up in {@code NewPostsService} so no post written
+ * in between is missed; replayed events are idempotent.
+ */
+@Slf4j
+@Component
+public class PostWatermarkConsumer {
+
+    private final AuthorWatermarkIndex watermarkIndex;
+    private final PublicFeedSnapshot publicFeedSnapshot;
+    private final TopicTailer tailer;
+
+    public PostWatermarkConsumer(AuthorWatermarkIndex watermarkIndex,
+                                 PublicFeedSnapshot publicFeedSnapshot,
+                                 ConsumerFactory<?, ?> consumerFactory) {
+        this.watermarkIndex = watermarkIndex;
+        this.publicFeedSnapshot = publicFeedSnapshot;
+        this.tailer = new TopicTailer(consumerFactory, KafkaConfig.TOPIC_POST_EVENTS, event -> {
+            if (event instanceof DomainEvent<?> domainEvent) {
+                handlePostEvent(domainEvent);
+            }
+        });
+    }
+
+    public void start(Instant from) {
+        tailer.start(from);
+    }
+
+    @PreDestroy
+    public void stop() {
+        tailer.close();
+    }
+
+    public void handlePostEvent(DomainEvent<?> event) {
+        if (event == null || event.getEventType() == null) {
+            return;
+        }
+        
+        switch (event.getEventType()) {
+            case PostCreatedEvent.EVENT_TYPE:
+                var created = ((PostCreatedEvent) event).getData();
+                watermarkIndex.recordPost(UUID.fromString(created.getPostId()), UUID.fromString(created.getUserId()),
+                        created.getCreatedAt(), parseVisibility(created.getVisibility()));
+                break;
+            case PostUpdatedEvent.EVENT_TYPE:
+                var updated = ((PostUpdatedEvent) event).getData();
+                if (updated.isActive()) {
+                    watermarkIndex.updateVisibility(UUID.fromString(updated.getPostId()),
+                            updated.getUserId() != null ? UUID.fromString(updated.getUserId()) : null,
+                            updated.getCreatedAt(), parseVisibility(updated.getVisibility()));
+                } else {
+                    watermarkIndex.removePost(UUID.fromString(updated.getPostId()));
+                }
+                break;
+            case PostDeletedEvent.EVENT_TYPE:
+                watermarkIndex.removePost(UUID.fromString(((PostDeletedEvent) event).getData().getPostId()));
+                break;
+            default:
+                log.debug("Ignoring post event type: {}", event.getEventType());
+                return;
+        }
+        publicFeedSnapshot.markDirty();
+    }
+
+    private Post.PostVisibility parseVisibility(String visibility) {
+        return visibility != null ? Post.PostVisibility.valueOf(visibility) : Post.PostVisibility.PUBLIC;
+    }
+}
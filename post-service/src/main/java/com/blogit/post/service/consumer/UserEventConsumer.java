@@ -1,23 +1,36 @@
 package com.blogit.post.service.consumer;
 
 import com.blogit.common.event.DomainEvent;
+import com.blogit.common.event.user.UserFollowedEvent;
 import com.blogit.common.event.user.UserRegisteredEvent;
+import com.blogit.common.event.user.UserUnfollowedEvent;
 import com.blogit.common.kafka.KafkaConfig;
+import com.blogit.common.kafka.KeyOrderedBatchProcessor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class UserEventConsumer {
 
+    private final KeyOrderedBatchProcessor batchProcessor;
+
+    // Events are keyed by user, so each user's events stay in order while different users run in parallel
     @KafkaListener(
         topics = KafkaConfig.TOPIC_USER_EVENTS,
         groupId = "${spring.application.name}",
-        containerFactory = "kafkaListenerContainerFactory"
+        containerFactory = "batchKafkaListenerContainerFactory"
     )
+    public void handleUserEvents(List<ConsumerRecord<String, DomainEvent<?>>> records) {
+        batchProcessor.process(records, record -> handleUserEvent(record.value()));
+    }
+
     public void handleUserEvent(DomainEvent<?> event) {
         log.info("Received user event: {}", event.getEventType());
         
@@ -37,6 +50,10 @@ public class UserEventConsumer {
             case UserRegisteredEvent.EVENT_TYPE:
                 handleUserRegistered((UserRegisteredEvent) event);
                 break;
+            case UserFollowedEvent.EVENT_TYPE:
+            case UserUnfollowedEvent.EVENT_TYPE:
+                // Applied to the follow graph by FollowGraphConsumer
+                break;
             default:
                 log.warn("Unhandled user event type: {}", eventType);
         }
@@ -0,0 +1,3 @@
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS rendered_content TEXT;
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS content_hash VARCHAR(64);
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS renderer_version INTEGER;
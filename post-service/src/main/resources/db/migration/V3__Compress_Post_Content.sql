@@ -0,0 +1,5 @@
+-- Post bodies are stored as codec-prefixed bytes (see PostContentCodec); existing rows become RAW (0x00) entries
+ALTER TABLE posts ALTER COLUMN content TYPE BYTEA USING ('\x00'::bytea || convert_to(content, 'UTF8'));
+
+-- Large bodies are already compressed by the application, so skip pglz and only move them out of line
+ALTER TABLE posts ALTER COLUMN content SET STORAGE EXTERNAL;
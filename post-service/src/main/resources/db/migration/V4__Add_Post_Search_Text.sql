@@ -0,0 +1,2 @@
+-- Plain-text copy of the body for keyword search; filled on write and by PostRenderBackfill for existing rows
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS search_text TEXT;
@@ -0,0 +1,40 @@
+package com.blogit.post.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostContentRendererTest {
+
+    private final PostContentRenderer renderer = new PostContentRenderer();
+
+    @Test
+    void rendersInlineMarkupAndHeadings() {
+        assertThat(renderer.render("# Title\n\nSome **bold** and *italic* text"))
+                .isEqualTo("<h1>Title</h1><p>Some <strong>bold</strong> and <em>italic</em> text</p>");
+    }
+
+    @Test
+    void leavesMarkupInsideCodeSpansAlone() {
+        assertThat(renderer.render("Use `a **b** *c*` here, **not** there"))
+                .isEqualTo("<p>Use <code>a **b** *c*</code> here, <strong>not</strong> there</p>");
+    }
+
+    @Test
+    void escapesHtmlBeforeApplyingMarkup() {
+        assertThat(renderer.render("<script>alert(1)</script> `<b>`"))
+                .isEqualTo("<p>&lt;script&gt;alert(1)&lt;/script&gt; <code>&lt;b&gt;</code></p>");
+    }
+
+    @Test
+    void rendersOnlyHttpLinks() {
+        assertThat(renderer.render("[ok](https://example.com) [bad](javascript:alert(1))"))
+                .isEqualTo("<p><a href=\"https://example.com\" rel=\"nofollow noopener\">ok</a> [bad](javascript:alert(1))</p>");
+    }
+
+    @Test
+    void plainTextDropsMarkupAndKeepsEscapedCharacters() {
+        assertThat(renderer.plainText("# Title\n\nSee [docs](https://example.com) for **a & b**\nand `x < y`"))
+                .isEqualTo("Title See docs for a & b and x < y");
+    }
+}
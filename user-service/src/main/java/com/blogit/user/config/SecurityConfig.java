@@ -42,6 +42,8 @@ public class SecurityConfig {
                         .requestMatchers("/users/password/reset-request").permitAll()
                         .requestMatchers("/users/password/reset").permitAll()
                         .requestMatchers("/users/verify-email").permitAll()
+                        // Service-to-service; not routed by the gateway and checked against app.internal.token
+                        .requestMatchers("/internal/**").permitAll()
                         // Protected endpoints
                         .anyRequest().authenticated()
                 )
@@ -0,0 +1,57 @@
+package com.blogit.user.controller;
+
+import com.blogit.user.dto.ApiResponse;
+import com.blogit.user.dto.FollowEdgeDto;
+import com.blogit.user.repository.UserFollowingRepository;
+import io.swagger.v3.oas.annotations.Hidden;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Snapshot of the follow graph for the in-memory replicas in post-service and
+ * interaction-service, read in keyset pages at their startup.
+ */
+@Hidden
+@RestController
+@RequestMapping("/internal/follows")
+@RequiredArgsConstructor
+public class InternalFollowController {
+
+    private static final int MAX_LIMIT = 10000;
+
+    private final UserFollowingRepository followingRepository;
+
+    @Value("${app.internal.token}")
+    private String internalToken;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<FollowEdgeDto>>> getFollowEdges(
+            @RequestHeader(value = "X-Internal-Token", required = false) String token,
+            @RequestParam UUID afterFollowerId,
+            @RequestParam UUID afterFollowingId,
+            @RequestParam(defaultValue = "5000") int limit) {
+        if (token == null || !MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8),
+                internalToken.getBytes(StandardCharsets.UTF_8))) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(ApiResponse.error("Invalid internal token"));
+        }
+
+        List<FollowEdgeDto> edges = followingRepository
+                .findFollowEdgesAfter(afterFollowerId, afterFollowingId, Math.max(1, Math.min(limit, MAX_LIMIT)))
+                .stream()
+                .map(row -> new FollowEdgeDto((UUID) row[0], (UUID) row[1]))
+                .toList();
+        return ResponseEntity.ok(ApiResponse.success(edges));
+    }
+}
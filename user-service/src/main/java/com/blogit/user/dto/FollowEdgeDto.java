@@ -0,0 +1,15 @@
+package com.blogit.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FollowEdgeDto {
+    private UUID followerId;
+    private UUID followingId;
+}
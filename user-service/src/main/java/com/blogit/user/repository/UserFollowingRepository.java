@@ -10,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.UUID;
 
 @Repository
@@ -31,6 +32,15 @@ public interface UserFollowingRepository extends JpaRepository<UserFollowing, Us
     @Query("SELECT COUNT(uf) FROM UserFollowing uf WHERE uf.id.followingId = :userId")
     long countFollowersByFollowingId(@Param("userId") UUID userId);
     
+    // Keyset page of follow edges in primary key order, for replicas that snapshot the whole graph
+    @Query(value = "SELECT follower_id, following_id FROM user_following " +
+                   "WHERE (follower_id, following_id) > (:afterFollowerId, :afterFollowingId) " +
+                   "ORDER BY follower_id, following_id LIMIT :limit",
+           nativeQuery = true)
+    List<Object[]> findFollowEdgesAfter(@Param("afterFollowerId") UUID afterFollowerId,
+                                        @Param("afterFollowingId") UUID afterFollowingId,
+                                        @Param("limit") int limit);
+    
     @Query("SELECT COUNT(uf) FROM UserFollowing uf WHERE uf.id.followerId = :user1Id AND uf.id.followingId IN " +
            "(SELECT uf2.id.followingId FROM UserFollowing uf2 WHERE uf2.id.followerId = :user2Id)")
     int countMutualFollowing(@Param("user1Id") UUID user1Id, @Param("user2Id") UUID user2Id);
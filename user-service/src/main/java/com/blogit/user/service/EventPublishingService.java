@@ -1,7 +1,9 @@
 package com.blogit.user.service;
 
 import com.blogit.common.event.DomainEvent;
+import com.blogit.common.event.user.UserFollowedEvent;
 import com.blogit.common.event.user.UserRegisteredEvent;
+import com.blogit.common.event.user.UserUnfollowedEvent;
 import com.blogit.common.event.user.UserUpdatedEvent;
 import com.blogit.user.entity.User;
 import lombok.RequiredArgsConstructor;
@@ -9,6 +11,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.UUID;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -66,4 +71,49 @@ public class EventPublishingService {
             log.error("Error publishing UserUpdatedEvent for user: {}", user.getId(), e);
         }
     }
-} 
\ No newline at end of file
+
+    public void publishUserFollowed(UUID followerId, UUID followingId) {
+        try {
+            UserFollowedEvent.UserFollowedData eventData = new UserFollowedEvent.UserFollowedData();
+            eventData.setFollowerId(followerId.toString());
+            eventData.setFollowingId(followingId.toString());
+            eventData.setFollowedAt(LocalDateTime.now());
+            
+            UserFollowedEvent event = new UserFollowedEvent(eventData);
+            
+            // Keyed by follower so follow/unfollow of the same user stay ordered
+            kafkaTemplate.send(USER_EVENTS_TOPIC, followerId.toString(), event)
+                    .whenComplete((result, ex) -> {
+                        if (ex == null) {
+                            log.info("Successfully published UserFollowedEvent: {} -> {}", followerId, followingId);
+                        } else {
+                            log.error("Failed to publish UserFollowedEvent: {} -> {}", followerId, followingId, ex);
+                        }
+                    });
+        } catch (Exception e) {
+            log.error("Error publishing UserFollowedEvent: {} -> {}", followerId, followingId, e);
+        }
+    }
+
+    public void publishUserUnfollowed(UUID followerId, UUID followingId) {
+        try {
+            UserUnfollowedEvent.UserUnfollowedData eventData = new UserUnfollowedEvent.UserUnfollowedData();
+            eventData.setFollowerId(followerId.toString());
+            eventData.setFollowingId(followingId.toString());
+            eventData.setUnfollowedAt(LocalDateTime.now());
+            
+            UserUnfollowedEvent event = new UserUnfollowedEvent(eventData);
+            
+            kafkaTemplate.send(USER_EVENTS_TOPIC, followerId.toString(), event)
+                    .whenComplete((result, ex) -> {
+                        if (ex == null) {
+                            log.info("Successfully published UserUnfollowedEvent: {} -> {}", followerId, followingId);
+                        } else {
+                            log.error("Failed to publish UserUnfollowedEvent: {} -> {}", followerId, followingId, ex);
+                        }
+                    });
+        } catch (Exception e) {
+            log.error("Error publishing UserUnfollowedEvent: {} -> {}", followerId, followingId, e);
+        }
+    }
+} 
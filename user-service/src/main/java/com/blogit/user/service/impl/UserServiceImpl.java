@@ -171,6 +171,7 @@ public class UserServiceImpl implements UserService {
                 .build();
 
         followingRepository.save(userFollowing);
+        eventPublishingService.publishUserFollowed(followerUuid, followingUuid);
     }
 
     @Override
@@ -183,6 +184,7 @@ public class UserServiceImpl implements UserService {
         }
 
         followingRepository.deleteByFollowerIdAndFollowingId(followerUuid, followingUuid);
+        eventPublishingService.publishUserUnfollowed(followerUuid, followingUuid);
     }
 
     @Override